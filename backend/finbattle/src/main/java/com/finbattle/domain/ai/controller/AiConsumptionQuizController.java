@@ -3,14 +3,19 @@ package com.finbattle.domain.ai.controller;
 import com.finbattle.domain.ai.dto.*;
 import com.finbattle.domain.ai.service.AiConsumptionQuizService;
 import com.finbattle.domain.ai.service.AiQuizAnalysisService;
+import com.finbattle.domain.ai.service.AiQuizGenerationJobService;
 import com.finbattle.domain.ai.service.AiQuizLogService;
 import com.finbattle.global.common.Util.AuthenticationUtil;
 import com.finbattle.global.common.model.dto.BaseResponse;
 import com.finbattle.global.common.model.dto.BaseResponseStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import java.util.List;
 import java.util.Map;
 
@@ -22,14 +27,23 @@ public class AiConsumptionQuizController {
     private final AiConsumptionQuizService aiConsumptionQuizService;
     private final AiQuizLogService aiQuizLogService;
     private final AiQuizAnalysisService aiQuizAnalysisService;
+    private final AiQuizGenerationJobService aiQuizGenerationJobService;
     private final AuthenticationUtil authenticationUtil;
 
-    @Operation(summary = "소비내역 기반 AI퀴즈 생성", description = "소비내역과 회원 ID를 기반으로 AI퀴즈 10개를 생성합니다.")
+    @Operation(summary = "소비내역 기반 AI퀴즈 생성", description = "소비내역과 회원 ID를 기반으로 AI퀴즈 10개 생성 작업을 등록하고 작업 ID를 반환합니다. 진행 상태는 /jobs/{jobId}로 조회합니다.")
     @PostMapping("/create")
-    public ResponseEntity<BaseResponse<List<Long>>> createConsumptionQuiz(@RequestBody Map<String, Long> consumptionMap) {
+    public ResponseEntity<BaseResponse<AiQuizJobDto>> createConsumptionQuiz(@RequestBody Map<String, Long> consumptionMap) {
         Long memberId = authenticationUtil.getMemberId();
-        List<Long> aiQuizIds = aiConsumptionQuizService.createConsumptionQuiz(memberId, consumptionMap);
-        return ResponseEntity.ok(new BaseResponse<>(aiQuizIds));
+        AiQuizJobDto job = aiQuizGenerationJobService.submit(memberId, consumptionMap);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new BaseResponse<>(job));
+    }
+
+    @Operation(summary = "AI퀴즈 생성 작업 상태 조회", description = "AI퀴즈 생성 작업의 상태(PENDING/RUNNING/COMPLETED/FAILED)와 생성된 퀴즈 ID를 조회합니다.")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<BaseResponse<AiQuizJobDto>> getGenerationJob(@PathVariable String jobId) {
+        Long memberId = authenticationUtil.getMemberId();
+        AiQuizJobDto job = aiQuizGenerationJobService.getJob(memberId, jobId);
+        return ResponseEntity.ok(new BaseResponse<>(job));
     }
 
     @Operation(summary = "최신 소비내역 기반 AI퀴즈 조회", description = "현재 로그인한 사용자의 최신 소비내역 기반 AI퀴즈 10개를 조회합니다.")
@@ -72,6 +86,15 @@ public class AiConsumptionQuizController {
         }
     }
 
+    @Operation(summary = "AI퀴즈 분석 (스트리밍)",
+            description = "AI퀴즈 분석 결과를 SSE로 전달합니다. analysis/weakness/recommendation 이벤트로 생성 중인 내용을, done 이벤트로 최종 분석 결과를 보냅니다.")
+    @PostMapping(value = "/analyze/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> analyzeStream(@RequestParam Long quizId) {
+        Long memberId = authenticationUtil.getMemberId();
+        return aiQuizAnalysisService.analyzeAiQuizStream(quizId, memberId)
+                .map(event -> ServerSentEvent.builder(event.getData()).event(event.getEvent()).build());
+    }
+
     @Operation(summary = "1개월 소비내역 기반 AI퀴즈 조회",
             description = "현재 로그인한 사용자의 최근 1개월 간 소비내역 기반 AI퀴즈를 모두 조회합니다.")
     @GetMapping("/monthly")
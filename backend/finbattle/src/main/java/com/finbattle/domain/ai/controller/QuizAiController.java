@@ -11,8 +11,13 @@ import com.finbattle.global.common.model.dto.BaseResponseStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -41,11 +46,22 @@ public class QuizAiController {
         }
     }
 
-    @Operation(summary = "일반 퀴즈 오답 노트 조회", description = "현재 로그인한 사용자의 quiz_log 기반 오답 노트를 조회합니다.")
+    @Operation(summary = "일반 퀴즈 분석 (스트리밍)", description = "AI 피드백을 SSE로 전달합니다. analysis/weakness/recommendation 이벤트로 생성 중인 내용을, done 이벤트로 최종 분석 결과를 보냅니다.")
+    @PostMapping(value = "/analyze/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> analyzeStream(@RequestBody QuizAiRequestDto dto) {
+        Long memberId = authenticationUtil.getMemberId();
+        return quizAiService.analyzeStream(memberId, dto)
+                .map(event -> ServerSentEvent.builder(event.getData()).event(event.getEvent()).build());
+    }
+
+    @Operation(summary = "일반 퀴즈 오답 노트 조회", description = "현재 로그인한 사용자의 quiz_log 기반 오답 노트를 최신순으로 조회합니다. size 를 주면 최대 100건씩 나눠 반환하며, 다음 페이지는 마지막 항목의 createdAt, quizLogId 를 lastCreatedAt, lastLogId 로 전달합니다. 페이지 파라미터가 없으면 전체를 반환합니다.")
     @GetMapping("/wrong")
-    public ResponseEntity<BaseResponse<List<QuizWrongNoteDto>>> getWrongNotes() {
+    public ResponseEntity<BaseResponse<List<QuizWrongNoteDto>>> getWrongNotes(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+            @RequestParam(required = false) Long lastLogId,
+            @RequestParam(required = false) Integer size) {
         Long memberId = authenticationUtil.getMemberId();
-        List<QuizWrongNoteDto> wrongNotes = quizWrongNoteService.getWrongNotesByMember(memberId);
+        List<QuizWrongNoteDto> wrongNotes = quizWrongNoteService.getWrongNotesByMember(memberId, lastCreatedAt, lastLogId, size);
         return ResponseEntity.ok(new BaseResponse<>(wrongNotes));
     }
 }
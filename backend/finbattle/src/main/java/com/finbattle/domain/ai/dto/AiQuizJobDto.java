@@ -0,0 +1,24 @@
+package com.finbattle.domain.ai.dto;
+
+import com.finbattle.domain.ai.model.AiQuizGenerationJob;
+import com.finbattle.domain.ai.model.AiQuizJobStatus;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AI퀴즈 생성 작업 상태 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class AiQuizJobDto {
+    private String jobId;
+    private AiQuizJobStatus status;
+    private List<Long> quizIds;      // COMPLETED 일 때 생성된 퀴즈 ID
+    private String errorMessage;     // FAILED 일 때 실패 사유
+
+    public static AiQuizJobDto from(AiQuizGenerationJob job) {
+        return new AiQuizJobDto(job.getJobId(), job.getStatus(), job.getQuizIds(),
+            job.getErrorMessage());
+    }
+}
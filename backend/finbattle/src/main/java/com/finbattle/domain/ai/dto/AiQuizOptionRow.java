@@ -0,0 +1,17 @@
+package com.finbattle.domain.ai.dto;
+
+/**
+ * AI퀴즈 + 문제 + 보기를 한 번에 조회하는 projection (보기 1개당 1행)
+ */
+public interface AiQuizOptionRow {
+
+    Long getQuizId();
+
+    String getQuestion();
+
+    Long getOptionId();
+
+    String getOptionText();
+
+    Boolean getIsCorrect();
+}
@@ -0,0 +1,15 @@
+package com.finbattle.domain.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AI 분석 스트리밍(SSE) 이벤트
+ * event: analysis / weakness / recommendation (토큰 조각), done (최종 분석 결과), error (실패 응답 BaseResponse)
+ */
+@Getter
+@AllArgsConstructor
+public class AnalysisStreamEventDto {
+    private String event;
+    private Object data;
+}
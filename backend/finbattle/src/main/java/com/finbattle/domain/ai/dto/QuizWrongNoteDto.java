@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor
 public class QuizWrongNoteDto {
+    private Long quizLogId; // 다음 페이지 조회 커서
     private Long quizId;
     private String quizMode; // 혹은 QuizMode
     private SubjectType quizSubject; // 추가
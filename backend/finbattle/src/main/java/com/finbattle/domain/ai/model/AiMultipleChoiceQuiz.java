@@ -13,7 +13,8 @@ import lombok.*;
 public class AiMultipleChoiceQuiz {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_multiple_choice_quiz_seq")
+    @SequenceGenerator(name = "ai_multiple_choice_quiz_seq", sequenceName = "ai_multiple_choice_quiz_seq", allocationSize = 50)
     @Column(name = "multiple_choice_quiz_id")
     private Long multipleChoiceQuizId;
 
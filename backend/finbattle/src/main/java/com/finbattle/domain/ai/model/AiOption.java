@@ -13,7 +13,8 @@ import lombok.*;
 public class AiOption {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_option_seq")
+    @SequenceGenerator(name = "ai_option_seq", sequenceName = "ai_option_seq", allocationSize = 50)
     @Column(name = "ai_option_id")
     private Long aiOptionId;
 
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class AiQuiz {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_quiz_seq")
+    @SequenceGenerator(name = "ai_quiz_seq", sequenceName = "ai_quiz_seq", allocationSize = 50)
     @Column(name = "ai_quiz_id")
     private Long aiQuizId;
 
@@ -0,0 +1,32 @@
+package com.finbattle.domain.ai.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 소비내역 기반 AI퀴즈 생성 작업 (Redis 저장)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiQuizGenerationJob {
+
+    private String jobId;
+    private Long memberId;
+    private AiQuizJobStatus status;
+    private Map<String, Long> consumptionMap;
+    @Builder.Default
+    private List<Long> quizIds = new ArrayList<>();
+    private String errorMessage;
+    private int attempts; // 워커가 처리를 시작한 횟수 (중단된 작업 재시도 제한)
+    private long requestedAt;
+    private long updatedAt;
+}
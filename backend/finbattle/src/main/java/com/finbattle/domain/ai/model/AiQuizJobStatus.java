@@ -0,0 +1,8 @@
+package com.finbattle.domain.ai.model;
+
+public enum AiQuizJobStatus {
+    PENDING,    // 대기열에 등록됨
+    RUNNING,    // 워커가 생성 중
+    COMPLETED,  // 생성 및 저장 완료
+    FAILED
+}
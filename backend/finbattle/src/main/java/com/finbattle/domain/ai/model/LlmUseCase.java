@@ -0,0 +1,19 @@
+package com.finbattle.domain.ai.model;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * OpenAI 호출 용도별 구분 (메트릭 태그 및 호출별 제한 시간)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LlmUseCase {
+    QUIZ_ANALYSIS(Duration.ofSeconds(30)),      // 일반 퀴즈 분석
+    AI_QUIZ_ANALYSIS(Duration.ofSeconds(30)),   // 소비 기반 AI퀴즈 분석
+    ESSAY_SCORING(Duration.ofSeconds(20)),      // 서술형 채점
+    CONSUMPTION_QUIZ(Duration.ofSeconds(60));   // 소비 기반 AI퀴즈 생성
+
+    private final Duration timeout;
+}
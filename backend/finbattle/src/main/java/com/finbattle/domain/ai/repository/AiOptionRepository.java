@@ -1,10 +1,33 @@
 package com.finbattle.domain.ai.repository;
 
+import com.finbattle.domain.ai.dto.AiQuizOptionRow;
 import com.finbattle.domain.ai.model.AiMultipleChoiceQuiz;
 import com.finbattle.domain.ai.model.AiOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface AiOptionRepository extends JpaRepository<AiOption, Long> {
     List<AiOption> findByMultipleChoiceQuiz(AiMultipleChoiceQuiz multipleChoiceQuiz);
+
+    @Query("""
+            SELECT q.aiQuizId AS quizId, m.question AS question, o.aiOptionId AS optionId,
+                   o.optionText AS optionText, o.isCorrect AS isCorrect
+            FROM AiOption o JOIN o.multipleChoiceQuiz m JOIN m.aiQuiz q
+            WHERE q.aiQuizId IN :quizIds
+            ORDER BY q.createdAt DESC, q.aiQuizId DESC, o.aiOptionId
+            """)
+    List<AiQuizOptionRow> findOptionRowsByQuizIds(@Param("quizIds") List<Long> quizIds);
+
+    @Query("""
+            SELECT q.aiQuizId AS quizId, m.question AS question, o.aiOptionId AS optionId,
+                   o.optionText AS optionText, o.isCorrect AS isCorrect
+            FROM AiOption o JOIN o.multipleChoiceQuiz m JOIN m.aiQuiz q
+            WHERE q.memberId = :memberId AND q.isDeleted = false AND q.createdAt > :after
+            ORDER BY q.createdAt, q.aiQuizId, o.aiOptionId
+            """)
+    List<AiQuizOptionRow> findOptionRowsByMemberIdAndCreatedAtAfter(@Param("memberId") Long memberId,
+                                                                    @Param("after") LocalDateTime after);
 }
@@ -0,0 +1,87 @@
+package com.finbattle.domain.ai.repository;
+
+import com.finbattle.domain.ai.model.AiQuizGenerationJob;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class AiQuizJobRedisRepository {
+
+    private static final String QUEUE_KEY = "ai:quiz:job:queue";
+    // 워커가 꺼내 처리 중인 작업 (완료/실패 시 제거, 워커가 중단되면 남아 있다가 재등록됨)
+    private static final String PROCESSING_KEY = "ai:quiz:job:processing";
+    private static final long JOB_TTL_HOURS = 1;
+
+    // 처리 중 목록에서 제거한 쪽만 대기열에 다시 넣음 (여러 인스턴스가 동시에 재등록해도 한 번만 들어감)
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('lrem', KEYS[1], 1, ARGV[1]) == 1 then "
+            + "redis.call('lpush', KEYS[2], ARGV[1]) return 1 else return 0 end", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private String getJobKey(String jobId) {
+        return "ai:quiz:job:" + jobId;
+    }
+
+    public void save(AiQuizGenerationJob job) {
+        redisTemplate.opsForValue()
+            .set(getJobKey(job.getJobId()), job, JOB_TTL_HOURS, TimeUnit.HOURS);
+    }
+
+    public Optional<AiQuizGenerationJob> findById(String jobId) {
+        Object value = redisTemplate.opsForValue().get(getJobKey(jobId));
+        if (value instanceof AiQuizGenerationJob job) {
+            return Optional.of(job);
+        }
+        return Optional.empty();
+    }
+
+    public void enqueue(String jobId) {
+        redisTemplate.opsForList().leftPush(QUEUE_KEY, jobId);
+    }
+
+    /**
+     * 대기열에서 작업 ID를 꺼내 처리 중 목록으로 옮긴다. 비어 있으면 timeout 동안 대기 (BRPOPLPUSH)
+     * 처리가 끝나면 {@link #ack}로 처리 중 목록에서 제거해야 한다.
+     */
+    public Optional<String> dequeue(Duration timeout) {
+        Object value = redisTemplate.opsForList()
+            .rightPopAndLeftPush(QUEUE_KEY, PROCESSING_KEY, timeout);
+        if (value instanceof String jobId) {
+            return Optional.of(jobId);
+        }
+        return Optional.empty();
+    }
+
+    public void ack(String jobId) {
+        redisTemplate.opsForList().remove(PROCESSING_KEY, 1, jobId);
+    }
+
+    public List<String> findProcessing() {
+        List<Object> values = redisTemplate.opsForList().range(PROCESSING_KEY, 0, -1);
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+            .filter(String.class::isInstance)
+            .map(String.class::cast)
+            .toList();
+    }
+
+    /**
+     * @return 이 호출이 처리 중 목록에서 대기열로 옮겼으면 true
+     */
+    public boolean requeue(String jobId) {
+        Long moved = redisTemplate.execute(REQUEUE_SCRIPT, List.of(PROCESSING_KEY, QUEUE_KEY),
+            jobId);
+        return moved != null && moved == 1L;
+    }
+}
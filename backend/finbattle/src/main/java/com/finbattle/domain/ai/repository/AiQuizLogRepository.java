@@ -1,10 +1,25 @@
 package com.finbattle.domain.ai.repository;
 
+import com.finbattle.domain.ai.dto.AiQuizWrongNoteDto;
 import com.finbattle.domain.ai.model.AiQuizLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface AiQuizLogRepository extends JpaRepository<AiQuizLog, Long> {
     List<AiQuizLog> findByMemberIdAndIsCorrectFalse(Long memberId);
     AiQuizLog findTopByAiQuizIdAndMemberIdOrderByCreatedAtDesc(Long aiQuizId, Long memberId);
+
+    // 오답 로그 + 문제 + 정답 보기를 한 번에 조회
+    @Query("""
+            SELECT new com.finbattle.domain.ai.dto.AiQuizWrongNoteDto(
+                   l.aiQuizId, m.question, o.optionText, l.userAnswer, l.createdAt)
+            FROM AiQuizLog l
+            JOIN AiMultipleChoiceQuiz m ON m.aiQuiz.aiQuizId = l.aiQuizId
+            LEFT JOIN AiOption o ON o.multipleChoiceQuiz = m AND o.isCorrect = true
+            WHERE l.memberId = :memberId AND l.isCorrect = false
+            ORDER BY l.aiQuizLogId
+            """)
+    List<AiQuizWrongNoteDto> findWrongNotesByMemberId(@Param("memberId") Long memberId);
 }
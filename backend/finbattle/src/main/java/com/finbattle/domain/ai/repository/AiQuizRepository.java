@@ -3,6 +3,8 @@ package com.finbattle.domain.ai.repository;
 import com.finbattle.domain.ai.model.AiQuiz;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,4 +13,8 @@ public interface AiQuizRepository extends JpaRepository<AiQuiz, Long> {
     List<AiQuiz> findByMemberIdAndIsDeletedFalse(Long memberId, Pageable pageable);
     List<AiQuiz> findByMemberIdAndIsDeletedFalseAndCreatedAtAfter(Long memberId, LocalDateTime after);
 
+    @Query("SELECT q.aiQuizId FROM AiQuiz q WHERE q.memberId = :memberId AND q.isDeleted = false "
+            + "ORDER BY q.createdAt DESC, q.aiQuizId DESC")
+    List<Long> findLatestQuizIds(@Param("memberId") Long memberId, Pageable pageable);
+
 }
@@ -0,0 +1,26 @@
+package com.finbattle.domain.ai.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class LlmResponseRedisRepository {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public void save(String key, String content, Duration ttl) {
+        redisTemplate.opsForValue().set(key, content, ttl);
+    }
+
+    public Optional<String> findByKey(String key) {
+        Object value = redisTemplate.opsForValue().get(key);
+        if (value instanceof String content) {
+            return Optional.of(content);
+        }
+        return Optional.empty();
+    }
+}
@@ -3,9 +3,11 @@ package com.finbattle.domain.ai.service;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.finbattle.domain.ai.dto.AiConsumptionQuizDto;
 import com.finbattle.domain.ai.dto.AiOptionDto;
+import com.finbattle.domain.ai.dto.AiQuizOptionRow;
 import com.finbattle.domain.ai.model.AiMultipleChoiceQuiz;
 import com.finbattle.domain.ai.model.AiOption;
 import com.finbattle.domain.ai.model.AiQuiz;
+import com.finbattle.domain.ai.model.LlmUseCase;
 import com.finbattle.domain.ai.repository.AiMultipleChoiceQuizRepository;
 import com.finbattle.domain.ai.repository.AiOptionRepository;
 import com.finbattle.domain.ai.repository.AiQuizRepository;
@@ -13,13 +15,9 @@ import com.finbattle.global.common.exception.exception.BusinessException;
 import com.finbattle.global.common.model.dto.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -33,42 +31,54 @@ public class AiConsumptionQuizService {
     private final AiMultipleChoiceQuizRepository multipleChoiceQuizRepository;
     private final AiOptionRepository aiOptionRepository;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OpenAiClient openAiClient;
 
-    @Value("${spring.ai.openai.api-key}")
-    private String openaiApiKey;
+    private static final String MODEL = "gpt-4o";
 
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
-
-    public List<Long> createConsumptionQuiz(Long memberId, Map<String, Long> consumptionMap) {
+    /**
+     * 소비내역을 바탕으로 GPT에 퀴즈 10개 생성을 요청하고 파싱합니다. (DB 트랜잭션 밖에서 호출)
+     */
+    List<ParsedQuiz> generateQuizzes(Map<String, Long> consumptionMap) {
         String prompt = buildPrompt(consumptionMap);
         String gptAnswer = callOpenAi(prompt);
-        List<ParsedQuiz> parsedList = parseGptAnswer(gptAnswer);
-        List<Long> createdQuizIds = new ArrayList<>();
+        return parseGptAnswer(gptAnswer);
+    }
+
+    /**
+     * 생성된 퀴즈를 저장합니다.
+     * ID는 시퀀스(pooled)로 미리 할당되므로 퀴즈/문제/보기 insert가 테이블별 JDBC 배치로 묶입니다.
+     */
+    @Transactional
+    List<Long> saveQuizzes(Long memberId, List<ParsedQuiz> parsedList) {
+        LocalDateTime now = LocalDateTime.now();
+        List<AiQuiz> quizzes = new ArrayList<>();
+        List<AiMultipleChoiceQuiz> multiples = new ArrayList<>();
+        List<AiOption> options = new ArrayList<>();
         for (ParsedQuiz parsed : parsedList) {
             AiQuiz aiQuiz = AiQuiz.builder()
                     .memberId(memberId)
-                    .createdAt(LocalDateTime.now())
+                    .createdAt(now)
                     .isDeleted(false)
                     .build();
-            AiQuiz savedQuiz = aiQuizRepository.save(aiQuiz);
             AiMultipleChoiceQuiz multiple = AiMultipleChoiceQuiz.builder()
-                    .aiQuiz(savedQuiz)
+                    .aiQuiz(aiQuiz)
                     .question(parsed.question())
                     .build();
-            AiMultipleChoiceQuiz savedMultiple = multipleChoiceQuizRepository.save(multiple);
             for (int i = 0; i < parsed.options().size(); i++) {
                 boolean isCorrect = (i == parsed.answer());
-                AiOption option = AiOption.builder()
-                        .multipleChoiceQuiz(savedMultiple)
+                options.add(AiOption.builder()
+                        .multipleChoiceQuiz(multiple)
                         .optionText(parsed.options().get(i))
                         .isCorrect(isCorrect)
-                        .build();
-                aiOptionRepository.save(option);
+                        .build());
             }
-            createdQuizIds.add(savedQuiz.getAiQuizId());
+            quizzes.add(aiQuiz);
+            multiples.add(multiple);
         }
-        return createdQuizIds;
+        aiQuizRepository.saveAll(quizzes);
+        multipleChoiceQuizRepository.saveAll(multiples);
+        aiOptionRepository.saveAll(options);
+        return quizzes.stream().map(AiQuiz::getAiQuizId).collect(Collectors.toList());
     }
 
     private String buildPrompt(Map<String, Long> consumptionMap) {
@@ -104,25 +114,7 @@ public class AiConsumptionQuizService {
     }
 
     private String callOpenAi(String prompt) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(openaiApiKey);
-        Map<String, Object> message = Map.of("role", "user", "content", prompt);
-        Map<String, Object> requestBody = Map.of(
-                "model", "gpt-4o",
-                "messages", List.of(message),
-                "temperature", 0.7
-        );
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-        ResponseEntity<Map> response = restTemplate.exchange(OPENAI_API_URL, HttpMethod.POST, entity, Map.class);
-        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-            throw new BusinessException(BaseResponseStatus.OPENAI_API_ERROR);
-        }
-        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.getBody().get("choices");
-        if (choices == null || choices.isEmpty()) {
-            throw new BusinessException(BaseResponseStatus.AI_RESPONSE_INVALID);
-        }
-        String content = (String) ((Map<String, Object>) choices.get(0).get("message")).get("content");
+        String content = openAiClient.call(LlmUseCase.CONSUMPTION_QUIZ, MODEL, prompt);
         log.info("GPT 응답: {}", content);
         return content;
     }
@@ -141,39 +133,27 @@ public class AiConsumptionQuizService {
     record ParsedQuiz(String question, List<String> options, int answer) {}
 
     public List<AiConsumptionQuizDto> getLatestConsumptionQuizzes(Long memberId) {
-        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt").descending());
-        List<AiQuiz> aiQuizzes = aiQuizRepository.findByMemberIdAndIsDeletedFalse(memberId, pageable);
-
-        return aiQuizzes.stream().map(aiQuiz -> {
-            AiMultipleChoiceQuiz multipleQuiz = multipleChoiceQuizRepository.findByAiQuiz(aiQuiz)
-                    .orElseThrow(() -> new BusinessException(BaseResponseStatus.QUIZ_NOT_FOUND));
-            List<AiOption> options = aiOptionRepository.findByMultipleChoiceQuiz(multipleQuiz);
-            List<AiOptionDto> optionDtos = options.stream()
-                    .map(opt -> new AiOptionDto(
-                            opt.getAiOptionId(),
-                            opt.getOptionText(),
-                            opt.isCorrect() // ✅ 여기도 추가
-                    ))
-                    .collect(Collectors.toList());
-            return new AiConsumptionQuizDto(aiQuiz.getAiQuizId(), multipleQuiz.getQuestion(), optionDtos);
-        }).collect(Collectors.toList());
+        List<Long> quizIds = aiQuizRepository.findLatestQuizIds(memberId, PageRequest.of(0, 10));
+        if (quizIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return toQuizDtos(aiOptionRepository.findOptionRowsByQuizIds(quizIds));
     }
 
     public List<AiConsumptionQuizDto> getMonthlyConsumptionQuizzes(Long memberId) {
         LocalDateTime oneMonthAgo = LocalDateTime.now().minusMonths(1);
-        // 새로 추가한 메서드 호출하여 해당 기간의 데이터를 조회
-        List<AiQuiz> aiQuizzes = aiQuizRepository.findByMemberIdAndIsDeletedFalseAndCreatedAtAfter(memberId, oneMonthAgo);
-
-        return aiQuizzes.stream().map(aiQuiz -> {
-            AiMultipleChoiceQuiz multipleQuiz = multipleChoiceQuizRepository.findByAiQuiz(aiQuiz)
-                    .orElseThrow(() -> new BusinessException(BaseResponseStatus.QUIZ_NOT_FOUND));
-            List<AiOption> options = aiOptionRepository.findByMultipleChoiceQuiz(multipleQuiz);
-            List<AiOptionDto> optionDtos = options.stream()
-                    .map(opt -> new AiOptionDto(opt.getAiOptionId(), opt.getOptionText(), opt.isCorrect()))
-                    .collect(Collectors.toList());
-            return new AiConsumptionQuizDto(aiQuiz.getAiQuizId(), multipleQuiz.getQuestion(), optionDtos);
-        }).collect(Collectors.toList());
+        return toQuizDtos(aiOptionRepository.findOptionRowsByMemberIdAndCreatedAtAfter(memberId, oneMonthAgo));
     }
 
-
+    // 보기 단위로 펼쳐진 행을 퀴즈 단위로 묶음 (조회 순서 유지)
+    private List<AiConsumptionQuizDto> toQuizDtos(List<AiQuizOptionRow> rows) {
+        Map<Long, AiConsumptionQuizDto> quizzes = new LinkedHashMap<>();
+        for (AiQuizOptionRow row : rows) {
+            quizzes.computeIfAbsent(row.getQuizId(),
+                    id -> new AiConsumptionQuizDto(id, row.getQuestion(), new ArrayList<>()))
+                    .getOptions()
+                    .add(new AiOptionDto(row.getOptionId(), row.getOptionText(), row.getIsCorrect()));
+        }
+        return new ArrayList<>(quizzes.values());
+    }
 }
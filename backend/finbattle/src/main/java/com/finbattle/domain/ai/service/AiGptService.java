@@ -1,47 +1,27 @@
 package com.finbattle.domain.ai.service;
 
+import com.finbattle.domain.ai.model.LlmUseCase;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import java.util.List;
-import java.util.Map;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AiGptService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private static final String MODEL = "gpt-3.5-turbo";
 
-    @Value("${spring.ai.openai.api-key}")
-    private String openaiApiKey;
+    private final OpenAiClient openAiClient;
 
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
-
-    public String callOpenAi(String prompt) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(openaiApiKey);
-
-        Map<String, Object> message = Map.of("role", "user", "content", prompt);
-        Map<String, Object> requestBody = Map.of(
-                "model", "gpt-3.5-turbo",
-                "messages", List.of(message),
-                "temperature", 0.7
-        );
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-        ResponseEntity<Map> response = restTemplate.exchange(OPENAI_API_URL, HttpMethod.POST, entity, Map.class);
-        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-            throw new RuntimeException("OpenAI API 호출 실패");
-        }
-        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.getBody().get("choices");
-        if (choices == null || choices.isEmpty()) {
-            throw new RuntimeException("AI 응답이 비어 있습니다.");
-        }
-        String content = (String) ((Map<String, Object>) choices.get(0).get("message")).get("content");
+    public String callOpenAi(LlmUseCase useCase, String prompt) {
+        String content = openAiClient.call(useCase, MODEL, prompt);
         log.info("GPT 응답: {}", content);
         return content;
     }
+
+    public Flux<String> streamOpenAi(LlmUseCase useCase, String prompt) {
+        return openAiClient.stream(useCase, MODEL, prompt);
+    }
 }
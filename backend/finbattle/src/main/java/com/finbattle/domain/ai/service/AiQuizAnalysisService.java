@@ -1,9 +1,11 @@
 package com.finbattle.domain.ai.service;
 
 import com.finbattle.domain.ai.dto.AiQuizAnalysisResponseDto;
+import com.finbattle.domain.ai.dto.AnalysisStreamEventDto;
 import com.finbattle.domain.ai.model.AiMultipleChoiceQuiz;
 import com.finbattle.domain.ai.model.AiQuiz;
 import com.finbattle.domain.ai.model.AiQuizLog;
+import com.finbattle.domain.ai.model.LlmUseCase;
 import com.finbattle.domain.ai.repository.AiMultipleChoiceQuizRepository;
 import com.finbattle.domain.ai.repository.AiQuizLogRepository;
 import com.finbattle.domain.ai.repository.AiQuizRepository;
@@ -11,10 +13,8 @@ import com.finbattle.global.common.exception.exception.BusinessException;
 import com.finbattle.global.common.model.dto.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Flux;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -27,11 +27,38 @@ public class AiQuizAnalysisService {
     private final AiMultipleChoiceQuizRepository multipleChoiceQuizRepository;
     private final AiQuizLogRepository aiQuizLogRepository;
     private final AiGptService aiGptService;
-
-    @Value("${spring.ai.openai.api-key}")
-    private String openaiApiKey;
+    private final LlmResponseCache llmResponseCache;
 
     public AiQuizAnalysisResponseDto analyzeAiQuiz(Long quizId, Long memberId) {
+        AnalysisRequest request = prepare(quizId, memberId);
+        String gptResponse = llmResponseCache.getOrCompute(LlmUseCase.AI_QUIZ_ANALYSIS, quizId,
+                request.userAnswer(),
+                () -> aiGptService.callOpenAi(LlmUseCase.AI_QUIZ_ANALYSIS, request.prompt()));
+        return toResponse(gptResponse);
+    }
+
+    /**
+     * AI 퀴즈 분석 결과를 SSE 이벤트로 스트리밍합니다. 최종 결과는 캐시에 저장됩니다.
+     */
+    public Flux<AnalysisStreamEventDto> analyzeAiQuizStream(Long quizId, Long memberId) {
+        return AnalysisSectionParser.prepareAndStream(() -> {
+            AnalysisRequest request = prepare(quizId, memberId);
+            Optional<String> cached = llmResponseCache.find(LlmUseCase.AI_QUIZ_ANALYSIS, quizId,
+                    request.userAnswer());
+            if (cached.isPresent()) {
+                return AnalysisSectionParser.toEvents(Flux.just(cached.get()), this::toResponse);
+            }
+            return AnalysisSectionParser.toEvents(
+                    aiGptService.streamOpenAi(LlmUseCase.AI_QUIZ_ANALYSIS, request.prompt()),
+                    content -> {
+                        llmResponseCache.put(LlmUseCase.AI_QUIZ_ANALYSIS, quizId, request.userAnswer(),
+                                content);
+                        return toResponse(content);
+                    });
+        });
+    }
+
+    private AnalysisRequest prepare(Long quizId, Long memberId) {
         // ai_quiz_log 테이블에서 최신 로그 조회
         AiQuizLog log = aiQuizLogRepository
                 .findTopByAiQuizIdAndMemberIdOrderByCreatedAtDesc(quizId, memberId);
@@ -48,7 +75,10 @@ public class AiQuizAnalysisService {
                 "문제: %s\n사용자 답변: %s\n\n[분석 내용]\n문제의 핵심 개념 정리\n\n" +
                         "[취약점]\n사용자가 왜 틀렸는지 설명\n\n[추천 학습]\n보완할 학습 방향 제안",
                 multiple.getQuestion(), log.getUserAnswer());
-        String gptResponse = aiGptService.callOpenAi(prompt);
+        return new AnalysisRequest(log.getUserAnswer(), prompt);
+    }
+
+    private AiQuizAnalysisResponseDto toResponse(String gptResponse) {
         String[] sections = gptResponse.split("\\[.*?\\]");
         List<String> parts = Arrays.stream(sections)
                 .map(String::trim)
@@ -60,4 +90,7 @@ public class AiQuizAnalysisService {
                 parts.size() > 2 ? parts.get(2) : ""
         );
     }
+
+    private record AnalysisRequest(String userAnswer, String prompt) {
+    }
 }
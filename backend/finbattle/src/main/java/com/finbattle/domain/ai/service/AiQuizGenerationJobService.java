@@ -0,0 +1,213 @@
+package com.finbattle.domain.ai.service;
+
+import com.finbattle.domain.ai.dto.AiQuizJobDto;
+import com.finbattle.domain.ai.model.AiQuizGenerationJob;
+import com.finbattle.domain.ai.model.AiQuizJobStatus;
+import com.finbattle.domain.ai.repository.AiQuizJobRedisRepository;
+import com.finbattle.domain.ai.service.AiConsumptionQuizService.ParsedQuiz;
+import com.finbattle.global.common.exception.exception.BusinessException;
+import com.finbattle.global.common.model.dto.BaseResponseStatus;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 소비내역 기반 AI퀴즈 생성 작업 관리
+ * <p>
+ * 요청 스레드는 작업을 Redis 대기열에 등록하고 작업 ID만 반환합니다.
+ * 워커 스레드가 대기열에서 작업을 꺼내 GPT 호출, 파싱, 저장을 수행하고 진행 상태를 Redis에 기록합니다.
+ * 대기열이 Redis에 있으므로 여러 서버 인스턴스의 워커가 함께 처리할 수 있습니다.
+ * <p>
+ * 꺼낸 작업은 끝날 때까지 처리 중 목록에 남습니다. 서버 종료로 중단된 작업은 바로 대기열에 되돌리고, 워커가 비정상
+ * 종료되어 5분 넘게 갱신되지 않은 작업은 주기적으로 찾아 다시 등록합니다. 처리를
+ * {@value #MAX_ATTEMPTS}번 시작하고도 끝나지 않은 작업은 실패로 처리해 클라이언트가 조회를 멈출 수 있게 합니다.
+ */
+@Slf4j
+@Service
+public class AiQuizGenerationJobService {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(5);
+    // GPT 호출 제한 시간(60초)보다 충분히 길게
+    private static final Duration STUCK_AFTER = Duration.ofMinutes(5);
+    private static final long REAP_INTERVAL_SECONDS = 60;
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final AiQuizJobRedisRepository aiQuizJobRedisRepository;
+    private final AiConsumptionQuizService aiConsumptionQuizService;
+    private final int workerCount;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService reaper = Executors.newSingleThreadScheduledExecutor();
+    private volatile boolean running = true;
+
+    public AiQuizGenerationJobService(AiQuizJobRedisRepository aiQuizJobRedisRepository,
+        AiConsumptionQuizService aiConsumptionQuizService,
+        @Value("${app.ai.quiz-job.workers:2}") int workerCount) {
+        this.aiQuizJobRedisRepository = aiQuizJobRedisRepository;
+        this.aiConsumptionQuizService = aiConsumptionQuizService;
+        this.workerCount = workerCount;
+        this.workers = Executors.newFixedThreadPool(workerCount);
+    }
+
+    public AiQuizJobDto submit(Long memberId, Map<String, Long> consumptionMap) {
+        long now = System.currentTimeMillis();
+        AiQuizGenerationJob job = AiQuizGenerationJob.builder()
+            .jobId(UUID.randomUUID().toString())
+            .memberId(memberId)
+            .status(AiQuizJobStatus.PENDING)
+            .consumptionMap(consumptionMap)
+            .requestedAt(now)
+            .updatedAt(now)
+            .build();
+        aiQuizJobRedisRepository.save(job);
+        aiQuizJobRedisRepository.enqueue(job.getJobId());
+        log.info("AI퀴즈 생성 작업 등록: jobId={}, memberId={}", job.getJobId(), memberId);
+        return AiQuizJobDto.from(job);
+    }
+
+    public AiQuizJobDto getJob(Long memberId, String jobId) {
+        AiQuizGenerationJob job = aiQuizJobRedisRepository.findById(jobId)
+            .filter(found -> found.getMemberId().equals(memberId))
+            .orElseThrow(() -> new BusinessException(BaseResponseStatus.AI_QUIZ_JOB_NOT_FOUND));
+        return AiQuizJobDto.from(job);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWorkers() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::pollLoop);
+        }
+        reaper.scheduleWithFixedDelay(this::reapSafely, REAP_INTERVAL_SECONDS,
+            REAP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        log.info("AI퀴즈 생성 워커 {}개 시작", workerCount);
+    }
+
+    @PreDestroy
+    public void stopWorkers() {
+        running = false;
+        reaper.shutdownNow();
+        workers.shutdownNow();
+        try {
+            workers.awaitTermination(5, TimeUnit.SECONDS); // 중단된 작업을 대기열에 되돌릴 시간
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void pollLoop() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                aiQuizJobRedisRepository.dequeue(POLL_TIMEOUT).ifPresent(this::process);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.error("AI퀴즈 생성 대기열 처리 실패: {}", e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void process(String jobId) {
+        AiQuizGenerationJob job = aiQuizJobRedisRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != AiQuizJobStatus.PENDING) {
+            aiQuizJobRedisRepository.ack(jobId); // 만료되었거나 이미 처리된 작업
+            return;
+        }
+        job.setAttempts(job.getAttempts() + 1);
+        updateStatus(job, AiQuizJobStatus.RUNNING);
+        try {
+            List<ParsedQuiz> parsedList = aiConsumptionQuizService.generateQuizzes(
+                job.getConsumptionMap());
+            List<Long> quizIds = aiConsumptionQuizService.saveQuizzes(job.getMemberId(), parsedList);
+            job.setQuizIds(quizIds);
+            updateStatus(job, AiQuizJobStatus.COMPLETED);
+            log.info("AI퀴즈 생성 완료: jobId={}, {}개", jobId, quizIds.size());
+        } catch (BusinessException e) {
+            failJob(job, e.getBaseResponseStatus().getMessage());
+        } catch (Exception e) {
+            if (!running) {
+                // 서버 종료로 중단: 실패로 남기지 않고 다른 인스턴스가 처리하도록 되돌림
+                log.warn("AI퀴즈 생성 중단, 대기열에 다시 등록: jobId={}", jobId);
+                boolean interrupted = Thread.interrupted(); // 인터럽트 상태에서는 Redis 호출이 바로 실패함
+                requeue(job);
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+            log.error("AI퀴즈 생성 실패: jobId={}", jobId, e);
+            failJob(job, BaseResponseStatus.AI_QUIZ_CREATION_FAILED.getMessage());
+        }
+        aiQuizJobRedisRepository.ack(jobId);
+    }
+
+    /**
+     * 처리 중 목록에 남아 오래 갱신되지 않은 작업(워커 비정상 종료)을 다시 등록하거나 실패 처리
+     */
+    public void reapStuckJobs() {
+        long stuckBefore = System.currentTimeMillis() - STUCK_AFTER.toMillis();
+        for (String jobId : aiQuizJobRedisRepository.findProcessing()) {
+            AiQuizGenerationJob job = aiQuizJobRedisRepository.findById(jobId).orElse(null);
+            if (job == null || job.getStatus() == AiQuizJobStatus.COMPLETED
+                || job.getStatus() == AiQuizJobStatus.FAILED) {
+                aiQuizJobRedisRepository.ack(jobId); // 만료되었거나 끝난 뒤 제거 전에 중단된 작업
+                continue;
+            }
+            if (job.getUpdatedAt() > stuckBefore) {
+                continue;
+            }
+            if (job.getAttempts() >= MAX_ATTEMPTS) {
+                log.warn("AI퀴즈 생성 작업 재시도 초과로 실패 처리: jobId={}", jobId);
+                failJob(job, BaseResponseStatus.AI_QUIZ_CREATION_FAILED.getMessage());
+                aiQuizJobRedisRepository.ack(jobId);
+                continue;
+            }
+            log.warn("중단된 AI퀴즈 생성 작업 재등록: jobId={}, attempts={}", jobId, job.getAttempts());
+            requeue(job);
+        }
+    }
+
+    private void reapSafely() {
+        try {
+            reapStuckJobs();
+        } catch (Exception e) {
+            log.error("중단된 AI퀴즈 생성 작업 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 상태를 먼저 되돌린 뒤 옮겨야 대기열에서 꺼낸 워커가 PENDING 으로 봄
+    private void requeue(AiQuizGenerationJob job) {
+        updateStatus(job, AiQuizJobStatus.PENDING);
+        aiQuizJobRedisRepository.requeue(job.getJobId());
+    }
+
+    private void failJob(AiQuizGenerationJob job, String message) {
+        job.setErrorMessage(message);
+        updateStatus(job, AiQuizJobStatus.FAILED);
+    }
+
+    private void updateStatus(AiQuizGenerationJob job, AiQuizJobStatus status) {
+        job.setStatus(status);
+        job.setUpdatedAt(System.currentTimeMillis());
+        aiQuizJobRedisRepository.save(job);
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(POLL_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -14,7 +14,6 @@ import com.finbattle.global.common.model.dto.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -53,25 +52,6 @@ public class AiQuizLogService {
      * AI퀴즈 오답 노트 조회 (틀린 로그만 반환)
      */
     public List<AiQuizWrongNoteDto> getWrongQuizLogsByMember(Long memberId) {
-        // ai_quiz_log 테이블에서 memberId가 일치하고 isCorrect가 false인 로그를 조회하는 메서드가 있다고 가정
-        List<AiQuizLog> wrongLogs = aiQuizLogRepository.findByMemberIdAndIsCorrectFalse(memberId);
-        return wrongLogs.stream().map(log -> {
-            AiQuiz aiQuiz = aiQuizRepository.findById(log.getAiQuizId())
-                    .orElseThrow(() -> new BusinessException(BaseResponseStatus.QUIZ_NOT_FOUND));
-            AiMultipleChoiceQuiz multiple = multipleChoiceQuizRepository.findByAiQuiz(aiQuiz)
-                    .orElseThrow(() -> new BusinessException(BaseResponseStatus.QUIZ_NOT_FOUND));
-            List<AiOption> options = aiOptionRepository.findByMultipleChoiceQuiz(multiple);
-            String correctAnswer = options.stream()
-                    .filter(AiOption::isCorrect)
-                    .map(AiOption::getOptionText)
-                    .findFirst().orElse(null);
-            return AiQuizWrongNoteDto.builder()
-                    .quizId(log.getAiQuizId())
-                    .question(multiple.getQuestion())
-                    .correctAnswer(correctAnswer)
-                    .userAnswer(log.getUserAnswer())
-                    .createdAt(log.getCreatedAt())
-                    .build();
-        }).collect(Collectors.toList());
+        return aiQuizLogRepository.findWrongNotesByMemberId(memberId);
     }
 }
@@ -0,0 +1,114 @@
+package com.finbattle.domain.ai.service;
+
+import com.finbattle.domain.ai.dto.AnalysisStreamEventDto;
+import com.finbattle.global.common.exception.exception.BusinessException;
+import com.finbattle.global.common.model.dto.BaseResponse;
+import com.finbattle.global.common.model.dto.BaseResponseStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 스트리밍으로 들어오는 분석 응답을 [분석 내용]/[취약점]/[추천 학습] 구간별 이벤트로 나누는 파서
+ * 구간 표시가 토큰 경계에서 잘려 들어올 수 있으므로, 닫히지 않은 '[' 이후 내용은 다음 조각이 올 때까지 보류한다.
+ */
+class AnalysisSectionParser {
+
+    private static final Map<String, String> SECTIONS = Map.of(
+        "[분석 내용]", "analysis",
+        "[취약점]", "weakness",
+        "[추천 학습]", "recommendation"
+    );
+    private static final int MAX_MARKER_LENGTH = SECTIONS.keySet().stream()
+        .mapToInt(String::length).max().orElse(0);
+
+    private final StringBuilder buffer = new StringBuilder();
+    private String section = "analysis";
+
+    /**
+     * 토큰 스트림을 구간 이벤트로 변환하고, 스트림이 끝나면 전체 응답으로 만든 최종 결과를 done 이벤트로 보낸다.
+     * 실패 시 스트림을 끊지 않고 error 이벤트로 실패 응답(코드·메시지)을 보낸다.
+     * @param tokens OpenAI 토큰 조각
+     * @param onComplete 전체 응답 문자열을 받아 결과 저장 후 최종 DTO를 반환 (boundedElastic 스레드에서 실행)
+     */
+    static Flux<AnalysisStreamEventDto> toEvents(Flux<String> tokens,
+        Function<String, Object> onComplete) {
+        return Flux.defer(() -> {
+            AnalysisSectionParser parser = new AnalysisSectionParser();
+            StringBuilder content = new StringBuilder();
+            return tokens
+                .doOnNext(content::append)
+                .concatMapIterable(parser::feed)
+                .concatWith(Flux.defer(() -> Flux.fromIterable(parser.flush())))
+                .concatWith(Mono.fromCallable(
+                        () -> new AnalysisStreamEventDto("done", onComplete.apply(content.toString())))
+                    .subscribeOn(Schedulers.boundedElastic()));
+        }).onErrorResume(e -> Flux.just(errorEvent(e, BaseResponseStatus.AI_ANALYSIS_FAILED)));
+    }
+
+    /**
+     * 분석 준비(로그·문제 조회)를 구독 시점으로 미루고, 준비 단계의 실패도 error 이벤트로 보낸다.
+     * 응답 코드는 /analyze 와 같게 BusinessException 은 해당 코드, 그 외는 QUIZ_LOG_NOT_FOUND 로 보낸다.
+     */
+    static Flux<AnalysisStreamEventDto> prepareAndStream(
+        Supplier<Flux<AnalysisStreamEventDto>> events) {
+        return Flux.defer(events)
+            .onErrorResume(e -> Flux.just(errorEvent(e, BaseResponseStatus.QUIZ_LOG_NOT_FOUND)));
+    }
+
+    private static AnalysisStreamEventDto errorEvent(Throwable e, BaseResponseStatus fallback) {
+        BaseResponseStatus status = e instanceof BusinessException be
+            ? be.getBaseResponseStatus() : fallback;
+        return new AnalysisStreamEventDto("error", new BaseResponse<>(status));
+    }
+
+    List<AnalysisStreamEventDto> feed(String delta) {
+        buffer.append(delta);
+        List<AnalysisStreamEventDto> events = new ArrayList<>();
+        int open;
+        while ((open = buffer.indexOf("[")) >= 0) {
+            int close = buffer.indexOf("]", open);
+            if (close < 0) {
+                if (buffer.length() - open < MAX_MARKER_LENGTH) {
+                    // 구간 표시가 잘려서 들어온 경우: '[' 이후는 보류
+                    emit(events, buffer.substring(0, open));
+                    buffer.delete(0, open);
+                    return events;
+                }
+                emit(events, buffer.substring(0, open + 1));
+                buffer.delete(0, open + 1);
+                continue;
+            }
+            String next = SECTIONS.get(buffer.substring(open, close + 1));
+            if (next == null) {
+                // 구간 표시가 아닌 일반 대괄호
+                emit(events, buffer.substring(0, close + 1));
+            } else {
+                emit(events, buffer.substring(0, open));
+                section = next;
+            }
+            buffer.delete(0, close + 1);
+        }
+        emit(events, buffer.toString());
+        buffer.setLength(0);
+        return events;
+    }
+
+    List<AnalysisStreamEventDto> flush() {
+        List<AnalysisStreamEventDto> events = new ArrayList<>();
+        emit(events, buffer.toString());
+        buffer.setLength(0);
+        return events;
+    }
+
+    private void emit(List<AnalysisStreamEventDto> events, String text) {
+        if (!text.isEmpty()) {
+            events.add(new AnalysisStreamEventDto(section, text));
+        }
+    }
+}
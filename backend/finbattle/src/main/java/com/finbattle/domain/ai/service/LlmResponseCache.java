@@ -0,0 +1,164 @@
+package com.finbattle.domain.ai.service;
+
+import com.finbattle.domain.ai.model.LlmUseCase;
+import com.finbattle.domain.ai.repository.LlmResponseRedisRepository;
+import com.finbattle.global.common.metrics.LlmCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * LLM 응답 2단계 캐시 (L1: 인스턴스 로컬 LRU, L2: Redis)
+ * 키는 (용도, 퀴즈 ID, 정규화된 답변)으로 구성되며, 같은 문제에 같은 답변이 다시 들어오면 OpenAI를 호출하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmResponseCache {
+
+    private static final String KEY_PREFIX = "llm:v2:"; // v2: 어순/기호를 보존하는 키
+    private static final int L1_MAX_SIZE = 1_000;
+    private static final Duration L1_TTL = Duration.ofMinutes(10);
+    private static final Duration L2_TTL = Duration.ofHours(24);
+
+    private final LlmResponseRedisRepository llmResponseRedisRepository;
+    private final LlmCacheMetrics llmCacheMetrics;
+
+    private final Map<String, CachedResponse> localCache = Collections.synchronizedMap(
+        new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > L1_MAX_SIZE;
+            }
+        });
+
+    /**
+     * 캐시에 응답이 있으면 반환하고, 없으면 loader로 LLM을 호출한 뒤 결과를 저장한다. (블로킹)
+     */
+    public String getOrCompute(LlmUseCase useCase, Long quizId, String answer,
+        Supplier<String> loader) {
+        String key = key(useCase, quizId, answer);
+        String cached = lookup(useCase, key);
+        if (cached != null) {
+            return cached;
+        }
+        String content = loader.get();
+        store(key, content);
+        return content;
+    }
+
+    /**
+     * {@link #getOrCompute}의 논블로킹 버전. Redis 조회/저장은 boundedElastic 스레드에서 수행한다.
+     */
+    public Mono<String> getOrComputeAsync(LlmUseCase useCase, Long quizId, String answer,
+        Supplier<Mono<String>> loader) {
+        String key = key(useCase, quizId, answer);
+        return Mono.fromCallable(() -> lookup(useCase, key))
+            .subscribeOn(Schedulers.boundedElastic())
+            .switchIfEmpty(Mono.defer(loader)
+                .flatMap(content -> Mono.fromRunnable(() -> store(key, content))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .thenReturn(content)));
+    }
+
+    /**
+     * 캐시된 응답 조회 (스트리밍처럼 loader를 직접 제어해야 하는 경우)
+     */
+    public Optional<String> find(LlmUseCase useCase, Long quizId, String answer) {
+        return Optional.ofNullable(lookup(useCase, key(useCase, quizId, answer)));
+    }
+
+    public void put(LlmUseCase useCase, Long quizId, String answer, String content) {
+        store(key(useCase, quizId, answer), content);
+    }
+
+    private String lookup(LlmUseCase useCase, String key) {
+        CachedResponse local = localCache.get(key);
+        if (local != null) {
+            if (!local.isExpired()) {
+                llmCacheMetrics.incrementHit(useCase.name(), "l1");
+                return local.content();
+            }
+            localCache.remove(key);
+        }
+
+        Optional<String> remote = Optional.empty();
+        try {
+            remote = llmResponseRedisRepository.findByKey(key);
+        } catch (Exception e) {
+            log.warn("LLM 캐시 Redis 조회 실패: {}", e.getMessage());
+        }
+        if (remote.isPresent()) {
+            llmCacheMetrics.incrementHit(useCase.name(), "l2");
+            localCache.put(key, new CachedResponse(remote.get(), expiresAt()));
+            return remote.get();
+        }
+
+        llmCacheMetrics.incrementMiss(useCase.name());
+        return null;
+    }
+
+    private void store(String key, String content) {
+        if (content == null || content.isBlank()) {
+            return;
+        }
+        localCache.put(key, new CachedResponse(content, expiresAt()));
+        try {
+            llmResponseRedisRepository.save(key, content, L2_TTL);
+        } catch (Exception e) {
+            log.warn("LLM 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + L1_TTL.toMillis();
+    }
+
+    static String key(LlmUseCase useCase, Long quizId, String answer) {
+        return KEY_PREFIX + useCase.name().toLowerCase(Locale.ROOT) + ":" + quizId + ":"
+            + sha256(normalize(answer));
+    }
+
+    /**
+     * 유니코드 호환 문자, 대소문자, 공백 차이만 무시한다.
+     * 어순이나 기호(>, <, %, + 등)는 답의 의미를 바꾸므로 그대로 둔다.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT);
+        return normalized.trim().replaceAll("\\s+", " ");
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedResponse(String content, long expiresAtMillis) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.finbattle.domain.ai.service;
+
+import static com.finbattle.global.common.model.dto.BaseResponseStatus.AI_RESPONSE_INVALID;
+import static com.finbattle.global.common.model.dto.BaseResponseStatus.AI_SERVER_BUSY;
+import static com.finbattle.global.common.model.dto.BaseResponseStatus.OPENAI_API_ERROR;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finbattle.domain.ai.model.LlmUseCase;
+import com.finbattle.global.common.exception.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * OpenAI chat-completions 공통 클라이언트
+ * <p>
+ * 동시 호출 수 제한(bulkhead), 용도별 제한 시간(재시도 포함), 지터 재시도, 연속 실패 시 차단(circuit breaker)을 적용하고
+ * 용도/모델별 응답 시간을 기록합니다.
+ */
+@Slf4j
+@Component
+public class OpenAiClient {
+
+    private static final String CHAT_COMPLETIONS_URI = "/v1/chat/completions";
+    private static final double TEMPERATURE = 0.7;
+    private static final int MAX_RETRIES = 2;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(300);
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final long OPEN_MILLIS = 30_000L;
+    private static final String STREAM_DONE = "[DONE]";
+    private static final Duration STREAM_IDLE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final WebClient openAiWebClient;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore permits;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private volatile long openUntil = 0L;
+
+    public OpenAiClient(WebClient openAiWebClient, MeterRegistry meterRegistry,
+        @Value("${app.openai.max-concurrency:16}") int maxConcurrency) {
+        this.openAiWebClient = openAiWebClient;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * 블로킹 호출이 필요한 기존 코드용 어댑터
+     */
+    public String call(LlmUseCase useCase, String model, String prompt) {
+        return chat(useCase, model, prompt).block();
+    }
+
+    public Mono<String> chat(LlmUseCase useCase, String model, String prompt) {
+        return Mono.defer(() -> {
+            if (System.currentTimeMillis() < openUntil || !permits.tryAcquire()) {
+                meterRegistry.counter("llm.request.rejected", "useCase", useCase.name()).increment();
+                return Mono.error(new BusinessException(AI_SERVER_BUSY));
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            // 제한 시간은 재시도와 대기 시간을 포함한 호출 전체에 적용
+            return requestCompletion(model, prompt)
+                .retryWhen(Retry.backoff(MAX_RETRIES, RETRY_BACKOFF)
+                    .jitter(0.5)
+                    .filter(this::isRetryable))
+                .timeout(useCase.getTimeout())
+                .doOnSuccess(content -> {
+                    consecutiveFailures.set(0);
+                    sample.stop(timer(useCase, model, "success"));
+                })
+                .doOnError(e -> {
+                    recordFailure(e);
+                    sample.stop(timer(useCase, model, "error"));
+                })
+                .doFinally(signal -> permits.release());
+        }).onErrorMap(e -> !(e instanceof BusinessException), e -> {
+            log.error("OpenAI 호출 실패 [{}]: {}", useCase, e.toString());
+            return new BusinessException(OPENAI_API_ERROR);
+        });
+    }
+
+    /**
+     * stream=true 로 호출해 생성되는 토큰 조각(delta)을 순서대로 전달합니다.
+     * 스트림 도중에는 재시도하지 않습니다. 첫 토큰까지는 용도별 제한 시간을, 이후에는 토큰 사이의 대기 시간
+     * ({@link #STREAM_IDLE_TIMEOUT})을 적용해 토큰이 계속 들어오는 긴 응답은 끊지 않습니다.
+     */
+    public Flux<String> stream(LlmUseCase useCase, String model, String prompt) {
+        return Flux.defer(() -> {
+            if (System.currentTimeMillis() < openUntil || !permits.tryAcquire()) {
+                meterRegistry.counter("llm.request.rejected", "useCase", useCase.name()).increment();
+                return Flux.<String>error(new BusinessException(AI_SERVER_BUSY));
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicBoolean firstToken = new AtomicBoolean(true);
+            return requestCompletionStream(model, prompt)
+                .timeout(Mono.delay(useCase.getTimeout()), delta -> Mono.delay(STREAM_IDLE_TIMEOUT))
+                .doOnNext(delta -> {
+                    if (firstToken.compareAndSet(true, false)) {
+                        sample.stop(firstTokenTimer(useCase, model, "success"));
+                    }
+                })
+                .doOnComplete(() -> consecutiveFailures.set(0))
+                .doOnError(this::recordFailure)
+                .doFinally(signal -> {
+                    // 첫 토큰 전에 끝난 호출(실패·시간 초과·취소·빈 응답)도 기록
+                    if (firstToken.compareAndSet(true, false)) {
+                        String outcome = switch (signal) {
+                            case ON_ERROR -> "error";
+                            case CANCEL -> "cancel";
+                            default -> "empty";
+                        };
+                        sample.stop(firstTokenTimer(useCase, model, outcome));
+                    }
+                    permits.release();
+                });
+        }).onErrorMap(e -> !(e instanceof BusinessException), e -> {
+            log.error("OpenAI 스트리밍 호출 실패 [{}]: {}", useCase, e.toString());
+            return new BusinessException(OPENAI_API_ERROR);
+        });
+    }
+
+    private Flux<String> requestCompletionStream(String model, String prompt) {
+        Map<String, Object> message = Map.of("role", "user", "content", prompt);
+        Map<String, Object> requestBody = Map.of(
+            "model", model,
+            "messages", List.of(message),
+            "temperature", TEMPERATURE,
+            "stream", true
+        );
+        return openAiWebClient.post()
+            .uri(CHAT_COMPLETIONS_URI)
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .bodyValue(requestBody)
+            .retrieve()
+            .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {
+            })
+            .<String>handle((event, sink) -> {
+                if (event.data() != null) {
+                    sink.next(event.data());
+                }
+            })
+            .takeWhile(data -> !STREAM_DONE.equals(data.trim()))
+            .<String>handle((data, sink) -> {
+                String delta = extractDelta(data);
+                if (delta != null && !delta.isEmpty()) {
+                    sink.next(delta);
+                }
+            });
+    }
+
+    private String extractDelta(String data) {
+        try {
+            JsonNode content = objectMapper.readTree(data)
+                .path("choices").path(0).path("delta").path("content");
+            return content.isTextual() ? content.textValue() : null;
+        } catch (Exception e) {
+            throw new BusinessException(AI_RESPONSE_INVALID);
+        }
+    }
+
+    private Mono<String> requestCompletion(String model, String prompt) {
+        Map<String, Object> message = Map.of("role", "user", "content", prompt);
+        Map<String, Object> requestBody = Map.of(
+            "model", model,
+            "messages", List.of(message),
+            "temperature", TEMPERATURE
+        );
+        return openAiWebClient.post()
+            .uri(CHAT_COMPLETIONS_URI)
+            .bodyValue(requestBody)
+            .retrieve()
+            .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+            })
+            .map(this::extractContent);
+    }
+
+    @SuppressWarnings("unchecked")
+    private String extractContent(Map<String, Object> body) {
+        List<Map<String, Object>> choices = (List<Map<String, Object>>) body.get("choices");
+        if (choices == null || choices.isEmpty()) {
+            throw new BusinessException(AI_RESPONSE_INVALID);
+        }
+        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
+        if (message == null || message.get("content") == null) {
+            throw new BusinessException(AI_RESPONSE_INVALID);
+        }
+        return (String) message.get("content");
+    }
+
+    // 429, 5xx, 연결 실패만 재시도 (응답 지연은 재시도해도 나아지지 않음)
+    private boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().value() == 429 || response.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException;
+    }
+
+    private void recordFailure(Throwable e) {
+        if (e instanceof BusinessException) {
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= FAILURE_THRESHOLD) {
+            openUntil = System.currentTimeMillis() + OPEN_MILLIS;
+            consecutiveFailures.set(0);
+            log.warn("OpenAI 연속 실패로 {}ms 동안 호출을 차단합니다.", OPEN_MILLIS);
+        }
+    }
+
+    private Timer firstTokenTimer(LlmUseCase useCase, String model, String outcome) {
+        return Timer.builder("llm.stream.first_token")
+            .description("OpenAI streaming time to first token")
+            .tag("useCase", useCase.name())
+            .tag("model", model)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private Timer timer(LlmUseCase useCase, String model, String outcome) {
+        return Timer.builder("llm.request")
+            .description("OpenAI chat-completions latency")
+            .tag("useCase", useCase.name())
+            .tag("model", model)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
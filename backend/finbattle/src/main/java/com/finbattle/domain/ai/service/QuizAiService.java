@@ -1,12 +1,15 @@
 package com.finbattle.domain.ai.service;
 
+import com.finbattle.domain.ai.dto.AnalysisStreamEventDto;
 import com.finbattle.domain.ai.dto.QuizAiRequestDto;
 import com.finbattle.domain.ai.dto.QuizAiResponseDto;
+import com.finbattle.domain.ai.model.LlmUseCase;
 import com.finbattle.domain.quiz.model.*;
 import com.finbattle.domain.quiz.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import java.util.*;
 
 @Slf4j
@@ -21,25 +24,51 @@ public class QuizAiService {
     private final QuizOptionRepository quizOptionRepository;
     private final QuizLogRepository quizLogRepository;
     private final AiGptService aiGptService;
+    private final LlmResponseCache llmResponseCache;
 
     public QuizAiResponseDto analyze(Long memberId, QuizAiRequestDto dto) {
-        Long quizId = dto.getQuizId();
+        AnalysisRequest request = prepare(memberId, dto.getQuizId());
+        return callOpenAiAndParse(request.quizId(), request.userAnswer(), request.prompt());
+    }
+
+    /**
+     * 분석 결과를 SSE 이벤트로 스트리밍합니다.
+     * 캐시에 결과가 있으면 바로 전달하고, 없으면 토큰이 생성되는 대로 구간별로 전달한 뒤 최종 결과를 캐시에 저장합니다.
+     */
+    public Flux<AnalysisStreamEventDto> analyzeStream(Long memberId, QuizAiRequestDto dto) {
+        return AnalysisSectionParser.prepareAndStream(() -> {
+            AnalysisRequest request = prepare(memberId, dto.getQuizId());
+            Optional<String> cached = llmResponseCache.find(LlmUseCase.QUIZ_ANALYSIS,
+                    request.quizId(), request.userAnswer());
+            if (cached.isPresent()) {
+                return AnalysisSectionParser.toEvents(Flux.just(cached.get()), this::toResponse);
+            }
+            return AnalysisSectionParser.toEvents(
+                    aiGptService.streamOpenAi(LlmUseCase.QUIZ_ANALYSIS, request.prompt()),
+                    content -> {
+                        llmResponseCache.put(LlmUseCase.QUIZ_ANALYSIS, request.quizId(),
+                                request.userAnswer(), content);
+                        return toResponse(content);
+                    });
+        });
+    }
+
+    private AnalysisRequest prepare(Long memberId, Long quizId) {
         QuizLog quizLog = quizLogRepository
                 .findTopByQuizIdAndMemberIdOrderByCreatedAtDesc(quizId, memberId)
                 .orElseThrow(() -> new RuntimeException("해당 퀴즈에 대한 유저 답변이 존재하지 않습니다."));
         String userAnswer = quizLog.getUserAnswer();
-        String prompt;
         Optional<ShortAnswerQuiz> shortOpt = shortAnswerQuizRepository.findById(quizId);
         if (shortOpt.isPresent()) {
             ShortAnswerQuiz q = shortOpt.get();
-            prompt = getPrompt(q.getShortQuestion(), userAnswer, null);
-            return callOpenAiAndParse(prompt);
+            return new AnalysisRequest(quizId, userAnswer,
+                    getPrompt(q.getShortQuestion(), userAnswer, null));
         }
         Optional<EssayQuiz> essayOpt = essayQuizRepository.findById(quizId);
         if (essayOpt.isPresent()) {
             EssayQuiz q = essayOpt.get();
-            prompt = getPrompt(q.getEssayQuestion(), userAnswer, null);
-            return callOpenAiAndParse(prompt);
+            return new AnalysisRequest(quizId, userAnswer,
+                    getPrompt(q.getEssayQuestion(), userAnswer, null));
         }
         Optional<MultipleChoiceQuiz> multipleOpt = multipleChoiceQuizRepository.findById(quizId);
         if (multipleOpt.isPresent()) {
@@ -48,8 +77,8 @@ public class QuizAiService {
             String optionsText = options.stream()
                     .map(o -> "- " + o.getOptionText())
                     .reduce("", (a, b) -> a + b + "\n");
-            prompt = getPrompt(q.getMultipleQuestion(), userAnswer, optionsText);
-            return callOpenAiAndParse(prompt);
+            return new AnalysisRequest(quizId, userAnswer,
+                    getPrompt(q.getMultipleQuestion(), userAnswer, optionsText));
         }
         throw new RuntimeException("해당 퀴즈 ID로 문제 유형을 찾을 수 없습니다.");
     }
@@ -65,8 +94,13 @@ public class QuizAiService {
         );
     }
 
-    private QuizAiResponseDto callOpenAiAndParse(String prompt) {
-        String content = aiGptService.callOpenAi(prompt);
+    private QuizAiResponseDto callOpenAiAndParse(Long quizId, String userAnswer, String prompt) {
+        String content = llmResponseCache.getOrCompute(LlmUseCase.QUIZ_ANALYSIS, quizId, userAnswer,
+                () -> aiGptService.callOpenAi(LlmUseCase.QUIZ_ANALYSIS, prompt));
+        return toResponse(content);
+    }
+
+    private QuizAiResponseDto toResponse(String content) {
         String[] sections = content.split("\\[.*?\\]");
         List<String> parts = new ArrayList<>();
         for (String part : sections) {
@@ -80,4 +114,7 @@ public class QuizAiService {
                 parts.size() > 2 ? parts.get(2) : ""
         );
     }
+
+    private record AnalysisRequest(Long quizId, String userAnswer, String prompt) {
+    }
 }
@@ -5,6 +5,7 @@ import com.finbattle.domain.banking.dto.account.AccountDetailDto;
 import com.finbattle.domain.banking.dto.account.AccountRequestDto;
 import com.finbattle.domain.banking.dto.account.FindAllAccountResponseDto;
 import com.finbattle.domain.banking.dto.analysis.AISearchRequestDto;
+import com.finbattle.domain.banking.dto.analysis.AnalysisRangeRequestDto;
 import com.finbattle.domain.banking.dto.analysis.AnalysisRequestDto;
 import com.finbattle.domain.banking.dto.analysis.AnalysisResponseDto;
 import com.finbattle.domain.banking.dto.transaction.LoadAllTransactionRequestDto;
@@ -85,6 +86,17 @@ public interface FinanceApi {
         @RequestBody AnalysisRequestDto requestDto
     ) throws JsonProcessingException;
 
+    @Operation(summary = "기간 소비 내역 분석", description = "로그인한 사용자의 여러 달(최대 12개월) 소비 내역을 분석합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "소비 내역 분석 성공"),
+        @ApiResponse(responseCode = "400", description = "분석 기간이 유효하지 않음")
+    })
+    @PostMapping("/account/analysis/range")
+    ResponseEntity<BaseResponse<AnalysisResponseDto>> analysisTransactionRange(
+        @AuthenticationPrincipal AuthenticatedUser detail,
+        @RequestBody AnalysisRangeRequestDto requestDto
+    ) throws JsonProcessingException;
+
     @Operation(summary = "AI 분류 검색", description = "상호명 리스트를 받아 AI로 분류합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "분류 성공")
@@ -5,6 +5,7 @@ import com.finbattle.domain.banking.dto.account.AccountDetailDto;
 import com.finbattle.domain.banking.dto.account.AccountRequestDto;
 import com.finbattle.domain.banking.dto.account.FindAllAccountResponseDto;
 import com.finbattle.domain.banking.dto.analysis.AISearchRequestDto;
+import com.finbattle.domain.banking.dto.analysis.AnalysisRangeRequestDto;
 import com.finbattle.domain.banking.dto.analysis.AnalysisRequestDto;
 import com.finbattle.domain.banking.dto.analysis.AnalysisResponseDto;
 import com.finbattle.domain.banking.dto.transaction.LoadAllTransactionRequestDto;
@@ -86,6 +87,15 @@ public class FinanceController implements FinanceApi {
                 requestDto.month())));
     }
 
+    @Override
+    public ResponseEntity<BaseResponse<AnalysisResponseDto>> analysisTransactionRange(
+        AuthenticatedUser detail, AnalysisRangeRequestDto requestDto)
+        throws JsonProcessingException {
+        return ResponseEntity.ok(new BaseResponse<>(
+            financeService.AnalysisSpendRange(detail.getMemberId(), requestDto.from(),
+                requestDto.to())));
+    }
+
     @Override
     public ResponseEntity<BaseResponse<String>> AIsearch(
         @RequestBody AISearchRequestDto dto
@@ -0,0 +1,11 @@
+package com.finbattle.domain.banking.dto.analysis;
+
+import java.time.YearMonth;
+
+/**
+ * @param from 시작 월 (예: 2025-01, 포함)
+ * @param to   종료 월 (예: 2025-03, 포함)
+ */
+public record AnalysisRangeRequestDto(YearMonth from, YearMonth to) {
+
+}
@@ -1,5 +1,10 @@
 package com.finbattle.domain.banking.dto.analysis;
 
-public record AnalysisResponseDto(String data) {
+import java.util.List;
+
+/**
+ * @param failedAccounts 거래 내역 조회에 실패해 분석에서 제외된 계좌번호 (부분 결과인 경우)
+ */
+public record AnalysisResponseDto(String data, List<String> failedAccounts) {
 
 }
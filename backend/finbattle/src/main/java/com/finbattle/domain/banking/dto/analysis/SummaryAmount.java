@@ -0,0 +1,8 @@
+package com.finbattle.domain.banking.dto.analysis;
+
+public interface SummaryAmount {
+
+    String getSummary();  // 거래 요약어 (예: 스타벅스)
+
+    Long getAmount();     // 기간 내 출금 합계
+}
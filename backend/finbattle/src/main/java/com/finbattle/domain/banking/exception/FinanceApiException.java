@@ -0,0 +1,18 @@
+package com.finbattle.domain.banking.exception;
+
+/**
+ * 금융망 API 가 2xx 가 아닌 응답을 반환했을 때 발생
+ */
+public class FinanceApiException extends RuntimeException {
+
+    private final int statusCode;
+
+    public FinanceApiException(int statusCode, String errorBody) {
+        super("Finance API 호출 실패: " + errorBody);
+        this.statusCode = statusCode;
+    }
+
+    public boolean isServerError() {
+        return statusCode >= 500;
+    }
+}
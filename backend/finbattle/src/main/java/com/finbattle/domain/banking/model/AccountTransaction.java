@@ -0,0 +1,58 @@
+package com.finbattle.domain.banking.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 금융망에서 동기화한 거래 내역 원장
+ * <p>
+ * 동기화 경로에서 (계좌번호, 거래 고유번호) 기준으로 upsert 되며, 여러 달에 걸친 소비 분석을 SQL 집계로 처리하는 데
+ * 사용합니다. transaction_month(yyyyMM)는 월 단위 범위 조회용입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@IdClass(AccountTransactionId.class)
+@Table(name = "account_transaction", indexes = {
+    @Index(name = "idx_account_transaction_account_date",
+        columnList = "account_no, transaction_date"),
+    @Index(name = "idx_account_transaction_summary", columnList = "transaction_summary")
+})
+public class AccountTransaction {
+
+    @Id
+    @Column(name = "account_no", length = 32)
+    private String accountNo;
+
+    @Id
+    @Column(name = "transaction_unique_no")
+    private Long transactionUniqueNo;
+
+    @Column(name = "transaction_month", nullable = false)
+    private int transactionMonth;
+
+    @Column(name = "transaction_date", length = 8, nullable = false)
+    private String transactionDate;
+
+    @Column(name = "transaction_time", length = 6)
+    private String transactionTime;
+
+    @Column(name = "transaction_type_name", length = 20)
+    private String transactionTypeName;
+
+    @Column(name = "transaction_balance")
+    private Long transactionBalance;
+
+    @Column(name = "transaction_summary")
+    private String transactionSummary;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+}
@@ -0,0 +1,17 @@
+package com.finbattle.domain.banking.model;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AccountTransactionId implements Serializable {
+
+    private String accountNo;
+    private Long transactionUniqueNo;
+}
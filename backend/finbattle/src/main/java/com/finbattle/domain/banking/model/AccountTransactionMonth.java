@@ -0,0 +1,35 @@
+package com.finbattle.domain.banking.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한 달 전체를 account_transaction 원장에 반영한 (계좌, 월) 기록
+ * <p>
+ * 한 달 전체 동기화의 거래와 같은 트랜잭션에서 기록되므로, 여기 있는 달만 원장 집계 결과를 믿을 수 있습니다.
+ * (원장 도입 전에 캐시된 달, 원장 반영에 실패한 달은 없음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@IdClass(AccountTransactionMonthId.class)
+@Table(name = "account_transaction_month")
+public class AccountTransactionMonth {
+
+    @Id
+    @Column(name = "account_no", length = 32)
+    private String accountNo;
+
+    @Id
+    @Column(name = "transaction_month")
+    private Integer transactionMonth; // yyyyMM
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+}
@@ -7,12 +7,15 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "ai_spend_category")
+@Table(name = "ai_spend_category", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_ai_spend_category_keyword", columnNames = "keyword")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class AiSpendCategoryEntity {
@@ -0,0 +1,76 @@
+package com.finbattle.domain.banking.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.List;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Redis 에 저장하는 거래 내역 캐시 값 (조회 시각 포함)
+ * <p>
+ * fetchedAt 은 마지막 동기화 시각, reconciledAt 은 마지막으로 한 달 전체를 다시 받은 시각입니다. 증분 동기화의
+ * 기준(high-water mark)은 저장된 내역 중 가장 큰 거래 고유번호입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedTransactionList {
+
+    private TransactionList transactions;
+    private long fetchedAt; // epoch millis
+    private long reconciledAt; // epoch millis
+
+    // 한 달 전체를 새로 받은 결과
+    public static CachedTransactionList now(TransactionList transactions) {
+        long now = System.currentTimeMillis();
+        return new CachedTransactionList(transactions, now, now);
+    }
+
+    // 기존 값에 증분을 더한 결과 (전체 재조회 시각은 유지)
+    public static CachedTransactionList synced(TransactionList transactions, long reconciledAt) {
+        return new CachedTransactionList(transactions, System.currentTimeMillis(), reconciledAt);
+    }
+
+    @JsonIgnore
+    public long getAgeMillis() {
+        return System.currentTimeMillis() - fetchedAt;
+    }
+
+    @JsonIgnore
+    public long getReconciledAgeMillis() {
+        return System.currentTimeMillis() - reconciledAt;
+    }
+
+    /**
+     * 저장된 거래 중 가장 큰 고유번호 (없으면 null)
+     */
+    @JsonIgnore
+    public Long getHighWaterMark() {
+        return records().stream()
+            .map(TransactionRecord::getTransactionUniqueNo)
+            .filter(Objects::nonNull)
+            .max(Long::compare)
+            .orElse(null);
+    }
+
+    /**
+     * 저장된 거래 중 가장 늦은 거래일 (yyyyMMdd, 없으면 null)
+     */
+    @JsonIgnore
+    public String getLatestTransactionDate() {
+        return records().stream()
+            .map(TransactionRecord::getTransactionDate)
+            .filter(Objects::nonNull)
+            .max(String::compareTo)
+            .orElse(null);
+    }
+
+    private List<TransactionRecord> records() {
+        return transactions == null || transactions.getList() == null
+            ? List.of() : transactions.getList();
+    }
+}
@@ -0,0 +1,18 @@
+package com.finbattle.domain.banking.repository;
+
+import com.finbattle.domain.banking.model.AccountTransactionMonth;
+import com.finbattle.domain.banking.model.AccountTransactionMonthId;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AccountTransactionMonthRepository extends
+    JpaRepository<AccountTransactionMonth, AccountTransactionMonthId> {
+
+    /**
+     * @param fromMonth 시작 월 (yyyyMM, 포함)
+     * @param toMonth   종료 월 (yyyyMM, 포함)
+     */
+    List<AccountTransactionMonth> findByAccountNoInAndTransactionMonthBetween(
+        Collection<String> accountNos, Integer fromMonth, Integer toMonth);
+}
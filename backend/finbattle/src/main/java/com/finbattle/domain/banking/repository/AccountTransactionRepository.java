@@ -0,0 +1,34 @@
+package com.finbattle.domain.banking.repository;
+
+import com.finbattle.domain.banking.dto.analysis.SummaryAmount;
+import com.finbattle.domain.banking.model.AccountTransaction;
+import com.finbattle.domain.banking.model.AccountTransactionId;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AccountTransactionRepository extends
+    JpaRepository<AccountTransaction, AccountTransactionId> {
+
+    /**
+     * 계좌들의 기간 내 출금액을 거래 요약어별로 합산 (idx_account_transaction_account_date 사용)
+     *
+     * @param startDate 시작일 (yyyyMMdd, 포함)
+     * @param endDate   종료일 (yyyyMMdd, 포함)
+     */
+    @Query("""
+        SELECT t.transactionSummary AS summary, SUM(t.transactionBalance) AS amount
+        FROM AccountTransaction t
+        WHERE t.accountNo IN :accountNos
+          AND t.transactionDate BETWEEN :startDate AND :endDate
+          AND t.transactionTypeName = '출금'
+          AND t.transactionSummary IS NOT NULL
+        GROUP BY t.transactionSummary
+        """)
+    List<SummaryAmount> sumWithdrawalsBySummary(
+        @Param("accountNos") Collection<String> accountNos,
+        @Param("startDate") String startDate,
+        @Param("endDate") String endDate);
+}
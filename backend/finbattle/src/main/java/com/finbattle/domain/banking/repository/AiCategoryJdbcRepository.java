@@ -0,0 +1,49 @@
+package com.finbattle.domain.banking.repository;
+
+import com.finbattle.domain.banking.model.SpendCategory;
+import java.sql.Connection;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ai_spend_category 대량 저장
+ * <p>
+ * 키워드/카테고리 배열을 한 번에 바인딩해 단일 INSERT 로 저장하고, 이미 있는 키워드(uk_ai_spend_category_keyword)는
+ * 건너뜁니다. 여러 서버가 같은 키워드를 동시에 저장해도 한 행만 남습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AiCategoryJdbcRepository {
+
+    private static final String INSERT_IGNORING_EXISTING_SQL = """
+        INSERT INTO ai_spend_category (keyword, category)
+        SELECT keyword, category FROM unnest(?::text[], ?::text[]) AS t(keyword, category)
+        ON CONFLICT (keyword) DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 새로 저장된 키워드 수
+     */
+    public int insertIgnoringExisting(Map<String, SpendCategory> mappings) {
+        if (mappings.isEmpty()) {
+            return 0;
+        }
+        String[] keywords = new String[mappings.size()];
+        String[] categories = new String[mappings.size()];
+        int i = 0;
+        for (Map.Entry<String, SpendCategory> entry : mappings.entrySet()) {
+            keywords[i] = entry.getKey();
+            categories[i] = entry.getValue().name();
+            i++;
+        }
+        return jdbcTemplate.update(INSERT_IGNORING_EXISTING_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("text", keywords));
+            ps.setArray(2, connection.createArrayOf("text", categories));
+        });
+    }
+}
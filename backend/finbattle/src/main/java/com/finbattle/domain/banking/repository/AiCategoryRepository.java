@@ -13,4 +13,7 @@ public interface AiCategoryRepository extends JpaRepository<AiSpendCategoryEntit
     @Query("SELECT c.keyword AS keyword, c.category AS category FROM AiSpendCategoryEntity c WHERE c.keyword IN :summaries")
     List<KeywordCategoryMapping> findKeywordCategoryMappings(
         @Param("summaries") Set<String> summaries);
+
+    @Query("SELECT c.keyword AS keyword, c.category AS category FROM AiSpendCategoryEntity c")
+    List<KeywordCategoryMapping> findAllKeywordCategoryMappings();
 }
@@ -13,4 +13,7 @@ public interface CategoryRepository extends JpaRepository<SpendCategoryEntity, L
     @Query("SELECT c.keyword AS keyword, c.category AS category FROM SpendCategoryEntity c WHERE c.keyword IN :summaries")
     List<KeywordCategoryMapping> findKeywordCategoryMappings(
         @Param("summaries") Set<String> summaries);
+
+    @Query("SELECT c.keyword AS keyword, c.category AS category FROM SpendCategoryEntity c")
+    List<KeywordCategoryMapping> findAllKeywordCategoryMappings();
 }
@@ -0,0 +1,284 @@
+package com.finbattle.domain.banking.repository;
+
+import com.finbattle.domain.banking.model.CachedTransactionList;
+import com.finbattle.domain.banking.model.TransactionList;
+import com.finbattle.domain.banking.model.TransactionRecord;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 거래 내역 캐시 전용 바이너리 직렬화
+ * <p>
+ * 타입 정보가 붙는 JSON 대신 열(column) 단위로 기록합니다. 문자열 필드(거래일, 시각, 구분명, 적요)는 한 사전에 모아
+ * 인덱스만 저장하고, 숫자는 varint(거래 고유번호는 직전 값과의 차이)로 저장합니다. 본문이 {@value #DEFLATE_THRESHOLD}
+ * 바이트를 넘으면 Deflate 로 한 번 더 압축합니다.
+ * <pre>
+ * [version:1][flags:1][body]
+ * body = fetchedAt, reconciledAt, totalCount, size, dictionary, uniqueNo[], date[], time[], typeName[], balance[], summary[]
+ * </pre>
+ * 버전 1 은 reconciledAt 이 없으며, 읽을 때 0 (다음 동기화에서 전체 재조회)으로 취급합니다.
+ */
+public final class TransactionListCodec {
+
+    private static final byte VERSION = 2;
+    private static final byte VERSION_WITHOUT_RECONCILE = 1;
+    private static final int FLAG_DEFLATED = 1;
+    private static final int FLAG_NULL_LIST = 1 << 1;
+    private static final int DEFLATE_THRESHOLD = 512;
+
+    private TransactionListCodec() {
+    }
+
+    public static byte[] encode(CachedTransactionList cached) {
+        TransactionList transactions = cached.getTransactions();
+        List<TransactionRecord> records = transactions == null ? null : transactions.getList();
+        int flags = records == null ? FLAG_NULL_LIST : 0;
+
+        Writer body = new Writer();
+        body.writeSignedLong(cached.getFetchedAt());
+        body.writeSignedLong(cached.getReconciledAt());
+        body.writeNullableLong(transactions == null || transactions.getTotalCount() == null
+            ? null : transactions.getTotalCount().longValue());
+        if (records != null) {
+            writeRecords(body, records);
+        }
+
+        byte[] raw = body.toByteArray();
+        if (raw.length > DEFLATE_THRESHOLD) {
+            raw = deflate(raw);
+            flags |= FLAG_DEFLATED;
+        }
+        byte[] encoded = new byte[raw.length + 2];
+        encoded[0] = VERSION;
+        encoded[1] = (byte) flags;
+        System.arraycopy(raw, 0, encoded, 2, raw.length);
+        return encoded;
+    }
+
+    public static CachedTransactionList decode(byte[] encoded) {
+        if (encoded.length < 2
+            || (encoded[0] != VERSION && encoded[0] != VERSION_WITHOUT_RECONCILE)) {
+            throw new IllegalArgumentException("지원하지 않는 거래 내역 캐시 형식입니다.");
+        }
+        int flags = encoded[1];
+        byte[] raw = new byte[encoded.length - 2];
+        System.arraycopy(encoded, 2, raw, 0, raw.length);
+        if ((flags & FLAG_DEFLATED) != 0) {
+            raw = inflate(raw);
+        }
+
+        Reader body = new Reader(raw);
+        long fetchedAt = body.readSignedLong();
+        long reconciledAt = encoded[0] == VERSION ? body.readSignedLong() : 0L;
+        Long totalCount = body.readNullableLong();
+        List<TransactionRecord> records =
+            (flags & FLAG_NULL_LIST) != 0 ? null : readRecords(body);
+        TransactionList transactions = new TransactionList(
+            totalCount == null ? null : totalCount.intValue(), records);
+        return new CachedTransactionList(transactions, fetchedAt, reconciledAt);
+    }
+
+    private static void writeRecords(Writer out, List<TransactionRecord> records) {
+        int size = records.size();
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> words = new ArrayList<>();
+        int[] dates = new int[size];
+        int[] times = new int[size];
+        int[] typeNames = new int[size];
+        int[] summaries = new int[size];
+        for (int i = 0; i < size; i++) {
+            TransactionRecord record = records.get(i);
+            dates[i] = lookup(dictionary, words, record.getTransactionDate());
+            times[i] = lookup(dictionary, words, record.getTransactionTime());
+            typeNames[i] = lookup(dictionary, words, record.getTransactionTypeName());
+            summaries[i] = lookup(dictionary, words, record.getTransactionSummary());
+        }
+
+        out.writeVarLong(size);
+        out.writeVarLong(words.size());
+        for (String word : words) {
+            out.writeString(word);
+        }
+        long previous = 0;
+        for (TransactionRecord record : records) {
+            Long uniqueNo = record.getTransactionUniqueNo();
+            out.writeNullableLong(uniqueNo == null ? null : uniqueNo - previous);
+            if (uniqueNo != null) {
+                previous = uniqueNo;
+            }
+        }
+        writeColumn(out, dates);
+        writeColumn(out, times);
+        writeColumn(out, typeNames);
+        for (TransactionRecord record : records) {
+            out.writeNullableLong(record.getTransactionBalance());
+        }
+        writeColumn(out, summaries);
+    }
+
+    private static List<TransactionRecord> readRecords(Reader in) {
+        int size = (int) in.readVarLong();
+        int dictionarySize = (int) in.readVarLong();
+        String[] words = new String[dictionarySize];
+        for (int i = 0; i < dictionarySize; i++) {
+            words[i] = in.readString();
+        }
+        Long[] uniqueNos = new Long[size];
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            Long delta = in.readNullableLong();
+            if (delta != null) {
+                previous += delta;
+                uniqueNos[i] = previous;
+            }
+        }
+        String[] dates = readColumn(in, words, size);
+        String[] times = readColumn(in, words, size);
+        String[] typeNames = readColumn(in, words, size);
+        Long[] balances = new Long[size];
+        for (int i = 0; i < size; i++) {
+            balances[i] = in.readNullableLong();
+        }
+        String[] summaries = readColumn(in, words, size);
+
+        List<TransactionRecord> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(new TransactionRecord(uniqueNos[i], dates[i], times[i], typeNames[i],
+                balances[i], summaries[i]));
+        }
+        return records;
+    }
+
+    // 0 은 null, 나머지는 사전 인덱스 + 1
+    private static int lookup(Map<String, Integer> dictionary, List<String> words, String value) {
+        if (value == null) {
+            return 0;
+        }
+        return dictionary.computeIfAbsent(value, word -> {
+            words.add(word);
+            return words.size();
+        });
+    }
+
+    private static void writeColumn(Writer out, int[] column) {
+        for (int index : column) {
+            out.writeVarLong(index);
+        }
+    }
+
+    private static String[] readColumn(Reader in, String[] words, int size) {
+        String[] column = new String[size];
+        for (int i = 0; i < size; i++) {
+            int index = (int) in.readVarLong();
+            column[i] = index == 0 ? null : words[index - 1];
+        }
+        return column;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream stream = new DeflaterOutputStream(out, deflater)) {
+            stream.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        try (InflaterInputStream stream = new InflaterInputStream(
+            new ByteArrayInputStream(compressed))) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Writer {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        void writeSignedLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63)); // zigzag
+        }
+
+        // 0 은 null, 나머지는 zigzag + 1
+        void writeNullableLong(Long value) {
+            writeVarLong(value == null ? 0 : ((value << 1) ^ (value >> 63)) + 1);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint 입니다.");
+        }
+
+        long readSignedLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        Long readNullableLong() {
+            long value = readVarLong();
+            if (value == 0) {
+                return null;
+            }
+            value -= 1;
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -1,36 +1,67 @@
 package com.finbattle.domain.banking.repository;
 
-import com.finbattle.domain.banking.model.TransactionList;
+import com.finbattle.domain.banking.model.CachedTransactionList;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class TransactionRedisRepository {
 
+    // 내가 잡은 락일 때만 삭제 (만료 후 다른 노드가 잡은 락을 지우지 않도록)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) "
+            + "else return 0 end", Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
 
     private String getDatakey(String accountNo, String date) {
         return "account:" + accountNo + ":date:" + date.substring(0, 6);
     }
 
-    public void save(String accountNo, TransactionList transactions, String date) {
-        redisTemplate.opsForValue()
-            .set(getDatakey(accountNo, date), transactions, 5, TimeUnit.MINUTES);
+    // 값은 TransactionListCodec 바이너리 (JSON 으로 저장하던 이전 키와 구분)
+    private String getBinaryKey(String accountNo, String date) {
+        return getDatakey(accountNo, date) + ":bin";
+    }
+
+    public void save(String accountNo, CachedTransactionList transactions, String date,
+        Duration ttl) {
+        binaryRedisTemplate.opsForValue().set(getBinaryKey(accountNo, date),
+            TransactionListCodec.encode(transactions), ttl);
     }
 
-    public Optional<TransactionList> findById(String accountNo, String date) {
-        Object value = redisTemplate.opsForValue().get(getDatakey(accountNo, date));
-        if (value instanceof TransactionList list) {
-            return Optional.of(list);
+    public Optional<CachedTransactionList> findById(String accountNo, String date) {
+        byte[] value = binaryRedisTemplate.opsForValue().get(getBinaryKey(accountNo, date));
+        if (value == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(TransactionListCodec.decode(value));
     }
 
     public void delete(String accountNo, String date) {
-        redisTemplate.delete(getDatakey(accountNo, date));
+        binaryRedisTemplate.delete(getBinaryKey(accountNo, date));
+    }
+
+    /**
+     * 같은 계좌/월의 거래 내역 API 호출을 한 노드만 하도록 잡는 락
+     */
+    public boolean tryLock(String accountNo, String date, String token, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+            .setIfAbsent(getLockKey(accountNo, date), token, ttl));
+    }
+
+    public void unlock(String accountNo, String date, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(getLockKey(accountNo, date)), token);
+    }
+
+    private String getLockKey(String accountNo, String date) {
+        return getDatakey(accountNo, date) + ":lock";
     }
 }
@@ -1,6 +1,7 @@
 package com.finbattle.domain.banking.service;
 
 import com.finbattle.domain.banking.dto.analysis.FastApiResponseDto;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -10,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Component
 @RequiredArgsConstructor
@@ -18,8 +20,12 @@ public class FastApiClient {
     private final WebClient fastApiWebClient;
 
     public List<FastApiResponseDto> predict(Set<String> summaries) {
+        return predictAsync(summaries).block();
+    }
+
+    public Mono<List<FastApiResponseDto>> predictAsync(Collection<String> summaries) {
         if (summaries.isEmpty()) {
-            return Collections.emptyList();
+            return Mono.just(Collections.emptyList());
         }
 
         // 예시: { "summaries": ["스타벅스", "배달의민족"] }
@@ -32,7 +38,7 @@ public class FastApiClient {
             .retrieve()
             .bodyToMono(new ParameterizedTypeReference<List<FastApiResponseDto>>() {
             })
-            .block(); // block은 동기 처리. 필요 시 비동기로 변경 가능
+            .defaultIfEmpty(Collections.emptyList());
     }
 }
 
@@ -1,41 +1,75 @@
 package com.finbattle.domain.banking.service;
 
+import com.finbattle.domain.banking.exception.FinanceApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+import reactor.util.retry.Retry;
 
+/**
+ * 금융망 API 클라이언트
+ * <p>
+ * 모든 호출은 Mono 로 처리하며 블로킹 메서드는 기존 코드용 어댑터입니다. 조회(inquire*, member/search) 요청은
+ * 멱등하므로 연결 실패와 5xx 에 한해 지수 백오프로 재시도합니다. 호출자가 Reactor Context 에
+ * {@link #deadlineAfter}로 마감 시각을 넣으면 재시도를 포함한 호출 전체가 그 시각 안에 끝나도록 제한 시간을 줄입니다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class FinanceApiClient {
 
+    private static final String DEADLINE_KEY = "finance.deadline";
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_RETRIES = 2;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+
     private final WebClient financeWebClient;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 지금부터 timeout 이 지나면 마감되는 Context (상위 파이프라인의 contextWrite 에 사용)
+     */
+    public static Context deadlineAfter(Duration timeout) {
+        return Context.of(DEADLINE_KEY, System.nanoTime() + timeout.toNanos());
+    }
 
     public <T> T post(String uri, Object body, Class<T> responseType) {
-        return financeWebClient.post()
-            .uri(uri)
-            .contentType(MediaType.APPLICATION_JSON)
-            .bodyValue(body)
-            .exchangeToMono(response -> {
-                if (response.statusCode().is2xxSuccessful()) {
-                    return response.bodyToMono(responseType);
-                } else {
-                    return response.bodyToMono(String.class).flatMap(errorBody -> {
-                        log.error("❌ API Error: {}", errorBody);
-                        return Mono.error(new RuntimeException("Finance API 호출 실패: " + errorBody));
-                    });
-                }
-            })
-            .block();
+        return postAsync(uri, body, responseType).block();
     }
 
     public <T, E extends RuntimeException> T post(String uri, Object body, Class<T> responseType,
         Supplier<E> exceptionSupplier) {
-        return financeWebClient.post()
+        return postAsync(uri, body, responseType, exceptionSupplier).block();
+    }
+
+    public <T> Mono<T> postAsync(String uri, Object body, Class<T> responseType) {
+        return exchange(uri, body, responseType,
+            (status, errorBody) -> new FinanceApiException(status, errorBody));
+    }
+
+    /**
+     * 2xx 가 아닌 응답을 exceptionSupplier 의 예외로 바꿉니다. (재시도하지 않음)
+     */
+    public <T, E extends RuntimeException> Mono<T> postAsync(String uri, Object body,
+        Class<T> responseType, Supplier<E> exceptionSupplier) {
+        return exchange(uri, body, responseType, (status, errorBody) -> exceptionSupplier.get());
+    }
+
+    private <T> Mono<T> exchange(String uri, Object body, Class<T> responseType,
+        BiFunction<Integer, String, RuntimeException> errorMapper) {
+        Mono<T> request = financeWebClient.post()
             .uri(uri)
             .contentType(MediaType.APPLICATION_JSON)
             .bodyValue(body)
@@ -43,12 +77,60 @@ public class FinanceApiClient {
                 if (response.statusCode().is2xxSuccessful()) {
                     return response.bodyToMono(responseType);
                 } else {
-                    return response.bodyToMono(String.class).flatMap(errorBody -> {
-                        log.error("❌ API Error: {}", errorBody);
-                        return Mono.error(exceptionSupplier.get());
-                    });
+                    return response.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .flatMap(errorBody -> {
+                            log.error("❌ API Error: {}", errorBody);
+                            return Mono.error(
+                                errorMapper.apply(response.statusCode().value(), errorBody));
+                        });
                 }
-            })
-            .block();
+            });
+        if (isIdempotent(uri)) {
+            request = request.retryWhen(Retry.backoff(MAX_RETRIES, RETRY_BACKOFF)
+                .jitter(0.5)
+                .filter(this::isRetryable));
+        }
+        Mono<T> withRetry = request;
+        return Mono.deferContextual(ctx -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return timeoutWithin(withRetry, ctx)
+                .doOnSuccess(res -> sample.stop(timer(uri, "success")))
+                .doOnError(e -> sample.stop(timer(uri, "error")));
+        });
+    }
+
+    private <T> Mono<T> timeoutWithin(Mono<T> request, ContextView ctx) {
+        Duration timeout = DEFAULT_TIMEOUT;
+        if (ctx.hasKey(DEADLINE_KEY)) {
+            long remaining = ctx.<Long>get(DEADLINE_KEY) - System.nanoTime();
+            if (remaining <= 0) {
+                return Mono.error(new TimeoutException("Finance API 호출 마감 시각 초과"));
+            }
+            timeout = Duration.ofNanos(Math.min(remaining, DEFAULT_TIMEOUT.toNanos()));
+        }
+        return request.timeout(timeout);
+    }
+
+    // 조회성 API 만 재시도 (등록 API 는 중복 생성 위험)
+    private boolean isIdempotent(String uri) {
+        String path = uri.substring(uri.lastIndexOf('/') + 1);
+        return path.startsWith("inquire") || uri.equals("member/search");
+    }
+
+    private boolean isRetryable(Throwable e) {
+        if (e instanceof FinanceApiException apiException) {
+            return apiException.isServerError();
+        }
+        return e instanceof WebClientRequestException;
+    }
+
+    private Timer timer(String uri, String outcome) {
+        return Timer.builder("finance.api.request")
+            .description("Finance API latency per endpoint")
+            .tag("endpoint", uri)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
     }
 }
@@ -1,6 +1,8 @@
 package com.finbattle.domain.banking.service;
 
 import static com.finbattle.global.common.model.dto.BaseResponseStatus.ACCOUNT_NOT_VALID;
+import static com.finbattle.global.common.model.dto.BaseResponseStatus.ANALYSIS_PERIOD_INVALID;
+import static com.finbattle.global.common.model.dto.BaseResponseStatus.TRANSACTION_LOAD_FAILED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.finbattle.domain.banking.dto.account.AccountDetailDto;
@@ -14,13 +16,21 @@ import com.finbattle.domain.banking.model.FinanceMember;
 import com.finbattle.domain.banking.model.TransactionList;
 import com.finbattle.global.common.exception.exception.BusinessException;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
@@ -28,10 +38,19 @@ import org.springframework.stereotype.Service;
 @Transactional
 public class FinanceFacadeService implements FinanceService {
 
+    private static final int TRANSACTION_FETCH_CONCURRENCY = 4;
+    private static final Duration TRANSACTION_FETCH_TIMEOUT = Duration.ofSeconds(5);
+    // 계좌 전체 조회의 마감 시간 (재시도 포함, 계좌별 호출에 전파)
+    private static final Duration TRANSACTION_FETCH_DEADLINE = Duration.ofSeconds(8);
+    private static final Duration RANGE_FETCH_DEADLINE = Duration.ofSeconds(15);
+    private static final int MAX_ANALYSIS_MONTHS = 12;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
     private final FinanceMemberService financeMemberService;
     private final FinanceAccountService financeAccountService;
     private final FinanceTransactionService financeTransactionService;
     private final SpendAnalysisService spendAnalysisService;
+    private final TransactionLedgerService transactionLedgerService;
 
     @Value("${app.financeKey}")
     private String financeKey;
@@ -94,28 +113,123 @@ public class FinanceFacadeService implements FinanceService {
         return financeTransactionService.loadAllTransaction(req, financeKey, member);
     }
 
+    // 금융망 조회를 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public AnalysisResponseDto AnalysisSpend(Long memberId, Integer year, Integer month)
         throws JsonProcessingException {
         FinanceMember member = financeMemberService.loadOrRegister(memberId, financeKey);
         List<AccountResponseDto> lists = financeAccountService.findAllAccount(financeKey,
             member);
 
-        Map<String, TransactionList> transactionLists = new HashMap<>();
-        for (AccountResponseDto account : lists) {
-            String accountNo = account.getAccountNo();
-            LoadAllTransactionRequest req = LoadAllTransactionRequest.builder()
-                .accountNo(accountNo)
-                .year(year)
-                .month(month)
-                .build();
-            TransactionList transactionList = financeTransactionService.loadAllTransaction(req,
-                financeKey, member);
-            transactionLists.put(accountNo, transactionList);
+        // 계좌별 조회를 동시에(최대 TRANSACTION_FETCH_CONCURRENCY 개) 보내고 도착하는 대로 합침
+        // 일부 계좌가 실패하면 나머지 계좌로 분석하고 실패한 계좌번호를 함께 반환
+        List<String> failedAccounts = new CopyOnWriteArrayList<>();
+        Map<String, TransactionList> transactionLists = Flux.fromIterable(lists)
+            .map(AccountResponseDto::getAccountNo)
+            .flatMap(accountNo -> financeTransactionService.loadAllTransactionAsync(
+                        LoadAllTransactionRequest.builder()
+                            .accountNo(accountNo)
+                            .year(year)
+                            .month(month)
+                            .build(),
+                        financeKey, member, TRANSACTION_FETCH_TIMEOUT)
+                    .map(transactionList -> Map.entry(accountNo, transactionList))
+                    .onErrorResume(e -> {
+                        log.warn("거래 내역 조회 실패: accountNo={}, {}", accountNo, e.toString());
+                        failedAccounts.add(accountNo);
+                        return Mono.empty();
+                    }),
+                TRANSACTION_FETCH_CONCURRENCY)
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue, HashMap::new)
+            .contextWrite(FinanceApiClient.deadlineAfter(TRANSACTION_FETCH_DEADLINE))
+            .block();
+        if (!lists.isEmpty() && transactionLists.isEmpty()) {
+            throw new BusinessException(TRANSACTION_LOAD_FAILED);
         }
-        log.info("거래 내역 조회 완료.");
+        log.info("거래 내역 조회 완료: {}개 계좌 (실패 {}개)", transactionLists.size(),
+            failedAccounts.size());
         String data = spendAnalysisService.analysisSpend(transactionLists);
-        return new AnalysisResponseDto(data);
+        return new AnalysisResponseDto(data, List.copyOf(failedAccounts));
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public AnalysisResponseDto AnalysisSpendRange(Long memberId, YearMonth from, YearMonth to)
+        throws JsonProcessingException {
+        if (from == null || to == null || from.isAfter(to)
+            || from.plusMonths(MAX_ANALYSIS_MONTHS - 1).isBefore(to)) {
+            throw new BusinessException(ANALYSIS_PERIOD_INVALID);
+        }
+        FinanceMember member = financeMemberService.loadOrRegister(memberId, financeKey);
+        List<String> accountNos = financeAccountService.findAllAccount(financeKey, member).stream()
+            .map(AccountResponseDto::getAccountNo)
+            .toList();
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+
+        int fromMonth = toMonthKey(from);
+        int toMonth = toMonthKey(to);
+
+        // 원장에 반영된 달은 캐시 경로로 조회해 새 거래만 반영하고, 빠진 달(원장 도입 전에 캐시된 달,
+        // 원장 반영에 실패한 달)은 캐시와 관계없이 한 달 전체를 다시 받음
+        Map<String, Set<Integer>> synced = transactionLedgerService.findSyncedMonths(accountNos,
+            fromMonth, toMonth);
+        Flux.fromIterable(accountNos)
+            .flatMap(accountNo -> Flux.fromIterable(months)
+                .map(month -> Map.entry(accountNo, month)))
+            .flatMap(target -> {
+                    LoadAllTransactionRequest request = LoadAllTransactionRequest.builder()
+                        .accountNo(target.getKey())
+                        .year(target.getValue().getYear())
+                        .month(target.getValue().getMonthValue())
+                        .build();
+                    boolean inLedger = synced.getOrDefault(target.getKey(), Set.of())
+                        .contains(toMonthKey(target.getValue()));
+                    Mono<TransactionList> sync = inLedger
+                        ? financeTransactionService.loadAllTransactionAsync(request, financeKey,
+                            member, TRANSACTION_FETCH_TIMEOUT)
+                        : financeTransactionService.resyncMonthAsync(request, financeKey,
+                            member, TRANSACTION_FETCH_TIMEOUT);
+                    return sync.then()
+                        .onErrorResume(e -> {
+                            log.warn("거래 내역 동기화 실패: accountNo={}, month={}, {}",
+                                target.getKey(), target.getValue(), e.toString());
+                            return Mono.empty();
+                        });
+                },
+                TRANSACTION_FETCH_CONCURRENCY)
+            .then()
+            .contextWrite(FinanceApiClient.deadlineAfter(RANGE_FETCH_DEADLINE))
+            .block();
+
+        // 기간 중 한 달이라도 원장에 없는 계좌는 집계에서 빼고 실패 계좌로 알림
+        Map<String, Set<Integer>> covered = transactionLedgerService.findSyncedMonths(accountNos,
+            fromMonth, toMonth);
+        List<String> failedAccounts = new ArrayList<>();
+        List<String> completeAccounts = new ArrayList<>();
+        for (String accountNo : accountNos) {
+            if (covered.getOrDefault(accountNo, Set.of()).size() == months.size()) {
+                completeAccounts.add(accountNo);
+            } else {
+                failedAccounts.add(accountNo);
+            }
+        }
+        if (!accountNos.isEmpty() && completeAccounts.isEmpty()) {
+            throw new BusinessException(TRANSACTION_LOAD_FAILED);
+        }
+        log.info("기간 분석 원장 확인 완료: {}개 계좌 (실패 {}개)", completeAccounts.size(),
+            failedAccounts.size());
+
+        String data = spendAnalysisService.analysisSpendFromLedger(completeAccounts,
+            from.atDay(1).format(DATE_FORMAT), to.atEndOfMonth().format(DATE_FORMAT));
+        return new AnalysisResponseDto(data, failedAccounts);
+    }
+
+    private static int toMonthKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
     }
 
     @Override
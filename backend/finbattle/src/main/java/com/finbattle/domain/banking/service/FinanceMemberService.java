@@ -7,11 +7,13 @@ import com.finbattle.domain.banking.dto.financemember.FinanceMemberResponseDto;
 import com.finbattle.domain.banking.exception.MemberNotFoundException;
 import com.finbattle.domain.banking.model.FinanceMember;
 import com.finbattle.domain.banking.repository.FinanceMemberRepository;
+import com.finbattle.domain.member.event.MemberInfoChangedEvent;
 import com.finbattle.domain.member.model.Member;
 import com.finbattle.domain.member.repository.MemberRepository;
 import com.finbattle.global.common.exception.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class FinanceMemberService {
     private final FinanceMemberRepository financeMemberRepository;
     private final MemberRepository memberRepository;
     private final FinanceApiClient financeApiClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public FinanceMember loadOrRegister(Long memberId, String financeKey) {
@@ -40,6 +43,7 @@ public class FinanceMemberService {
     public void changeMainAccount(FinanceMember member, String accountNo) {
         member.changeMainAccount(accountNo);
         financeMemberRepository.save(member);
+        eventPublisher.publishEvent(new MemberInfoChangedEvent(member.getMemberId()));
     }
 
     private FinanceMember register(Long memberId, String financeKey) {
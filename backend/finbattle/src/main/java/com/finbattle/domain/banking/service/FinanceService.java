@@ -7,6 +7,7 @@ import com.finbattle.domain.banking.dto.analysis.AISearchRequestDto;
 import com.finbattle.domain.banking.dto.analysis.AnalysisResponseDto;
 import com.finbattle.domain.banking.dto.transaction.LoadAllTransactionRequestDto;
 import com.finbattle.domain.banking.model.TransactionList;
+import java.time.YearMonth;
 
 /**
  * 금융 관련 서비스 로직을 정의한 인터페이스입니다.
@@ -69,6 +70,18 @@ public interface FinanceService {
         throws JsonProcessingException;
 
 
+    /**
+     * 사용자의 여러 달 소비내역을 분석합니다. 기간 내 거래를 동기화한 뒤 거래 원장에서 집계합니다.
+     *
+     * @param memberId 사용자 식별자
+     * @param from     시작 월 (포함)
+     * @param to       종료 월 (포함, 시작 월부터 최대 12개월)
+     * @return 소비 분석 결과 (동기화에 실패한 계좌가 있으면 함께 반환)
+     * @throws JsonProcessingException JSON 변환 실패 시 발생
+     */
+    AnalysisResponseDto AnalysisSpendRange(Long memberId, YearMonth from, YearMonth to)
+        throws JsonProcessingException;
+
     String AISearch(AISearchRequestDto dto)
         throws JsonProcessingException;
 }
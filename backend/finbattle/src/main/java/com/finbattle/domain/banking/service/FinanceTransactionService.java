@@ -3,59 +3,251 @@ package com.finbattle.domain.banking.service;
 import com.finbattle.domain.banking.dto.transaction.AllTransactionApiRequestDto;
 import com.finbattle.domain.banking.dto.transaction.LoadAllTransactionRequest;
 import com.finbattle.domain.banking.dto.transaction.LoadAllTransactionResponseDto;
+import com.finbattle.domain.banking.model.CachedTransactionList;
 import com.finbattle.domain.banking.model.CommonRequestHeader;
 import com.finbattle.domain.banking.model.FinanceMember;
 import com.finbattle.domain.banking.model.TransactionList;
 import com.finbattle.domain.banking.model.TransactionRecord;
 import com.finbattle.domain.banking.repository.TransactionRedisRepository;
+import com.finbattle.domain.banking.service.TransactionCachePolicy.Policy;
 import com.finbattle.global.common.metrics.CacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * 계좌 거래 내역 조회 ({@link TransactionCache}, 월별 만료 정책은 {@link TransactionCachePolicy})
+ * <p>
+ * 캐시 값이 갱신 시점을 지났으면 기존 값을 바로 돌려주고 백그라운드에서 다시 조회합니다. 캐시 미스가 동시에 여러 번 나도 금융망 API 는 (계좌, 월)마다 한 번만 호출합니다. 같은 서버에서는 진행 중인 호출을
+ * 함께 구독하고, 서버 간에는 Redis 락을 잡은 노드만 호출하며 나머지는 캐시에 결과가 저장되기를 잠시 기다립니다.
+ * (기다려도 결과가 없으면 직접 호출)
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class FinanceTransactionService {
 
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration LOCK_TTL = Duration.ofSeconds(15);
+    private static final Duration REMOTE_WAIT_INTERVAL = Duration.ofMillis(100);
+    private static final int REMOTE_WAIT_POLLS = 30;
+
     private final FinanceApiClient financeApiClient;
     private final TransactionRedisRepository transactionRedisRepository;
+    private final TransactionCache transactionCache;
+    private final TransactionLedgerService transactionLedgerService;
     private final CacheMetrics cacheMetrics;
+    private final boolean distributedLockEnabled;
+
+    // (계좌, yyyyMM) -> 진행 중인 API 호출
+    private final Map<String, Mono<TransactionList>> inFlight = new ConcurrentHashMap<>();
+
+    public FinanceTransactionService(FinanceApiClient financeApiClient,
+        TransactionRedisRepository transactionRedisRepository, TransactionCache transactionCache,
+        TransactionLedgerService transactionLedgerService, CacheMetrics cacheMetrics,
+        @Value("${app.finance.transaction-lock.enabled:true}") boolean distributedLockEnabled) {
+        this.financeApiClient = financeApiClient;
+        this.transactionRedisRepository = transactionRedisRepository;
+        this.transactionCache = transactionCache;
+        this.transactionLedgerService = transactionLedgerService;
+        this.cacheMetrics = cacheMetrics;
+        this.distributedLockEnabled = distributedLockEnabled;
+    }
 
     public TransactionList loadAllTransaction(LoadAllTransactionRequest dto,
         String financeKey, FinanceMember member) {
+        return loadAllTransactionAsync(dto, financeKey, member, DEFAULT_TIMEOUT).block();
+    }
 
-        TransactionList result = transactionRedisRepository.findById(dto.getAccountNo(),
-                dto.getStartDate())
-            .orElse(null);
+    /**
+     * {@link #loadAllTransaction}의 논블로킹 버전. Redis 조회/저장은 boundedElastic 스레드에서 수행하고,
+     * 캐시 미스 시 결과를 timeout 안에 받지 못하면 실패로 처리합니다.
+     */
+    public Mono<TransactionList> loadAllTransactionAsync(LoadAllTransactionRequest dto,
+        String financeKey, FinanceMember member, Duration timeout) {
+        return transactionCache.find(dto.getAccountNo(), dto.getStartDate())
+            .map(cached -> {
+                if (transactionCache.policyFor(dto.getStartDate())
+                    .needsRefresh(cached.getAgeMillis())) {
+                    cacheMetrics.incrementStale();
+                    refreshInBackground(dto, financeKey, member);
+                } else {
+                    cacheMetrics.incrementHit();
+                }
+                return cached.getTransactions();
+            })
+            .switchIfEmpty(Mono.defer(() -> {
+                cacheMetrics.incrementMiss();
+                return coalesce(dto, financeKey, member).timeout(timeout);
+            }));
+    }
 
-        if (result == null) {
-            cacheMetrics.incrementMiss();
-            String apiPath = "inquireTransactionHistoryList";
-            CommonRequestHeader header = new CommonRequestHeader(apiPath, financeKey,
-                member.getFinanceKey());
+    /**
+     * 캐시와 관계없이 한 달 전체를 다시 받아 캐시와 원장을 갱신합니다. (원장에 빠진 달을 채울 때 사용)
+     */
+    public Mono<TransactionList> resyncMonthAsync(LoadAllTransactionRequest dto,
+        String financeKey, FinanceMember member, Duration timeout) {
+        return syncFull(dto, financeKey, member)
+            .flatMap(synced -> transactionCache.save(dto.getAccountNo(), dto.getStartDate(),
+                synced))
+            .timeout(timeout);
+    }
 
-            AllTransactionApiRequestDto requestbody = toApiRequest(dto, header);
-            log.info("Request Data: {}", requestbody.toString());
-            List<TransactionRecord> res = financeApiClient.post("edu/demandDeposit/" + apiPath,
-                    requestbody, LoadAllTransactionResponseDto.class).getREC().getList().stream()
-                .map(TransactionRecord::from)
-                .toList();
-            result = new TransactionList(res.size(), res);
-            transactionRedisRepository.save(dto.getAccountNo(), result, dto.getStartDate());
-        } else {
-            cacheMetrics.incrementHit();
+    private void refreshInBackground(LoadAllTransactionRequest dto, String financeKey,
+        FinanceMember member) {
+        coalesce(dto, financeKey, member).subscribe(
+            refreshed -> log.debug("거래 내역 캐시 갱신: accountNo={}", dto.getAccountNo()),
+            e -> log.warn("거래 내역 캐시 갱신 실패: accountNo={}, {}", dto.getAccountNo(),
+                e.toString()));
+    }
+
+    private Mono<TransactionList> coalesce(LoadAllTransactionRequest dto, String financeKey,
+        FinanceMember member) {
+        String flightKey = dto.getAccountNo() + ":" + dto.getStartDate().substring(0, 6);
+        AtomicBoolean leader = new AtomicBoolean(false);
+        AtomicReference<Mono<TransactionList>> self = new AtomicReference<>();
+        Mono<TransactionList> flight = inFlight.computeIfAbsent(flightKey, key -> {
+            leader.set(true);
+            // 끝난 뒤 같은 키로 새로 시작된 요청을 지우지 않도록 자기 자신일 때만 제거
+            Mono<TransactionList> cached = fetchOnce(dto, financeKey, member)
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+            self.set(cached);
+            return cached;
+        });
+        if (!leader.get()) {
+            cacheMetrics.incrementCoalescedLocal();
+        }
+        return flight;
+    }
+
+    private Mono<TransactionList> fetchOnce(LoadAllTransactionRequest dto, String financeKey,
+        FinanceMember member) {
+        if (!distributedLockEnabled) {
+            return fetchAndSave(dto, financeKey, member);
         }
-        return result;
+        String token = UUID.randomUUID().toString();
+        return Mono.fromCallable(() -> transactionRedisRepository.tryLock(dto.getAccountNo(),
+                dto.getStartDate(), token, LOCK_TTL))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(acquired -> {
+                if (acquired) {
+                    // 락을 기다리는 사이 다른 노드가 이미 갱신했으면 그 값을 사용
+                    return transactionCache.findFresh(dto.getAccountNo(), dto.getStartDate())
+                        .map(CachedTransactionList::getTransactions)
+                        .switchIfEmpty(Mono.defer(() -> fetchAndSave(dto, financeKey, member)))
+                        .doFinally(signal -> Schedulers.boundedElastic().schedule(() ->
+                            transactionRedisRepository.unlock(dto.getAccountNo(),
+                                dto.getStartDate(), token)));
+                }
+                // 다른 노드가 호출 중: 캐시에 저장될 때까지 기다렸다가 없으면 직접 호출
+                // (갱신 중이면 기존 값이 있으므로 바로 그 값을 사용)
+                return transactionCache.find(dto.getAccountNo(), dto.getStartDate())
+                    .repeatWhenEmpty(polls -> polls.take(REMOTE_WAIT_POLLS)
+                        .delayElements(REMOTE_WAIT_INTERVAL))
+                    .map(CachedTransactionList::getTransactions)
+                    .doOnNext(result -> cacheMetrics.incrementCoalescedRemote())
+                    .switchIfEmpty(Mono.defer(() -> fetchAndSave(dto, financeKey, member)));
+            });
+    }
+
+    /**
+     * 캐시에 이번 달 내역이 있고 전체 재조회 주기 전이면 마지막 거래일부터의 내역만 받아 새 거래만 앞에 붙이고,
+     * 아니면 한 달 전체를 받아 저장합니다.
+     */
+    private Mono<TransactionList> fetchAndSave(LoadAllTransactionRequest dto, String financeKey,
+        FinanceMember member) {
+        Policy policy = transactionCache.policyFor(dto.getStartDate());
+        return transactionCache.find(dto.getAccountNo(), dto.getStartDate())
+            .filter(cached -> !policy.needsReconcile(cached.getReconciledAgeMillis())
+                && cached.getHighWaterMark() != null
+                && cached.getLatestTransactionDate() != null)
+            .flatMap(cached -> syncIncremental(dto, financeKey, member, cached))
+            .switchIfEmpty(Mono.defer(() -> syncFull(dto, financeKey, member)))
+            .flatMap(synced -> transactionCache.save(dto.getAccountNo(), dto.getStartDate(),
+                synced));
+    }
+
+    private Mono<CachedTransactionList> syncFull(LoadAllTransactionRequest dto,
+        String financeKey, FinanceMember member) {
+        cacheMetrics.incrementFullSync();
+        return fetchRecords(dto, dto.getStartDate(), financeKey, member)
+            .map(records -> CachedTransactionList.now(
+                new TransactionList(records.size(), records)));
+    }
+
+    private Mono<CachedTransactionList> syncIncremental(LoadAllTransactionRequest dto,
+        String financeKey, FinanceMember member, CachedTransactionList cached) {
+        cacheMetrics.incrementIncrementalSync();
+        long highWaterMark = cached.getHighWaterMark();
+        return fetchRecords(dto, cached.getLatestTransactionDate(), financeKey, member)
+            .map(records -> {
+                // 최신순(DESC) 정렬 유지: 새 거래를 기존 목록 앞에 붙임
+                List<TransactionRecord> merged = records.stream()
+                    .filter(record -> record.getTransactionUniqueNo() != null
+                        && record.getTransactionUniqueNo() > highWaterMark)
+                    .collect(Collectors.toCollection(ArrayList::new));
+                merged.addAll(cached.getTransactions().getList());
+                return CachedTransactionList.synced(new TransactionList(merged.size(), merged),
+                    cached.getReconciledAt());
+            });
+    }
+
+    private Mono<List<TransactionRecord>> fetchRecords(LoadAllTransactionRequest dto,
+        String startDate, String financeKey, FinanceMember member) {
+        String apiPath = "inquireTransactionHistoryList";
+        CommonRequestHeader header = new CommonRequestHeader(apiPath, financeKey,
+            member.getFinanceKey());
+        AllTransactionApiRequestDto requestbody = toApiRequest(dto, startDate, header);
+        log.info("Request Data: {}", requestbody.toString());
+        return financeApiClient.postAsync("edu/demandDeposit/" + apiPath, requestbody,
+                LoadAllTransactionResponseDto.class)
+            // Redis 직렬화 후에도 목록을 수정할 수 있도록 불변 리스트 대신 ArrayList 사용
+            .map(response -> response.getREC().getList().stream()
+                .map(TransactionRecord::from)
+                .collect(Collectors.toCollection(ArrayList::new)))
+            .flatMap(records -> recordLedger(dto, startDate, records).thenReturn(records));
+    }
+
+    // 원장 반영이 끝난 뒤 결과를 넘겨 기간 분석이 방금 동기화한 거래까지 집계하도록 함
+    // 한 달 전체를 받은 경우에만 원장에 반영된 달로 기록
+    // (실패해도 조회는 계속하며, 기간 분석이 빠진 달로 보고 다시 동기화함)
+    private Mono<Void> recordLedger(LoadAllTransactionRequest dto, String startDate,
+        List<TransactionRecord> records) {
+        String accountNo = dto.getAccountNo();
+        boolean fullMonth = startDate.equals(dto.getStartDate());
+        return Mono.fromRunnable(() -> {
+                if (fullMonth) {
+                    transactionLedgerService.recordMonth(accountNo,
+                        Integer.parseInt(startDate.substring(0, 6)), records);
+                } else {
+                    transactionLedgerService.record(accountNo, records);
+                }
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(e -> {
+                log.warn("거래 내역 원장 반영 실패: accountNo={}, {}", accountNo, e.getMessage());
+                return Mono.empty();
+            })
+            .then();
     }
 
     private AllTransactionApiRequestDto toApiRequest(LoadAllTransactionRequest req,
-        CommonRequestHeader header) {
+        String startDate, CommonRequestHeader header) {
         return AllTransactionApiRequestDto.builder()
             .Header(header)
             .accountNo(req.getAccountNo())
-            .startDate(req.getStartDate())
+            .startDate(startDate)
             .endDate(req.getEndDate())
             .transactionType(req.getTransactionType())
             .orderByType("DESC") // 기본 정렬 설정
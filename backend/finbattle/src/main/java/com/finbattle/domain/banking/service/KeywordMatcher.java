@@ -0,0 +1,142 @@
+package com.finbattle.domain.banking.service;
+
+import com.finbattle.domain.banking.model.SpendCategory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+
+/**
+ * 거래 요약어에 포함된 키워드(상호/브랜드명)를 찾는 Aho-Corasick 매처 (불변)
+ * <p>
+ * 요약어 길이에 비례하는 한 번의 순회로 모든 키워드를 동시에 찾고, 가장 긴 키워드의 카테고리를 돌려줍니다.
+ * 키워드와 요약어 모두 공백을 제거하고 소문자로 바꿔 비교하며, {@value #MIN_KEYWORD_LENGTH}자 미만 키워드는 오분류가
+ * 많아 제외합니다. 같은 키워드가 여러 번 들어오면 먼저 들어온 카테고리를 사용합니다.
+ */
+public final class KeywordMatcher {
+
+    private static final int MIN_KEYWORD_LENGTH = 2;
+    private static final int ROOT = 0;
+
+    private final List<Map<Character, Integer>> transitions;
+    private final int[] fail;
+    private final int[] longest; // 이 상태에서 끝나는 가장 긴 키워드 (없으면 -1)
+    private final int[] keywordLength;
+    private final SpendCategory[] categories;
+
+    private KeywordMatcher(List<Map<Character, Integer>> transitions, int[] fail, int[] longest,
+        int[] keywordLength, SpendCategory[] categories) {
+        this.transitions = transitions;
+        this.fail = fail;
+        this.longest = longest;
+        this.keywordLength = keywordLength;
+        this.categories = categories;
+    }
+
+    public static KeywordMatcher of(Map<String, SpendCategory> keywords) {
+        List<Map<Character, Integer>> transitions = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        List<Integer> terminal = new ArrayList<>();
+        terminal.add(-1);
+        List<Integer> lengths = new ArrayList<>();
+        List<SpendCategory> categories = new ArrayList<>();
+
+        for (Map.Entry<String, SpendCategory> entry : keywords.entrySet()) {
+            String keyword = normalize(entry.getKey());
+            if (keyword.length() < MIN_KEYWORD_LENGTH || entry.getValue() == null) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.add(new HashMap<>());
+                    terminal.add(-1);
+                    transitions.get(state).put(c, next);
+                }
+                state = next;
+            }
+            if (terminal.get(state) == -1) {
+                terminal.set(state, categories.size());
+                lengths.add(keyword.length());
+                categories.add(entry.getValue());
+            }
+        }
+
+        int size = transitions.size();
+        int[] fail = new int[size];
+        int[] longest = new int[size];
+        Arrays.fill(longest, -1);
+        // BFS 로 실패 링크를 만들고, 각 상태에서 끝나는 가장 긴 키워드를 미리 계산
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(ROOT).values()) {
+            fail[child] = ROOT;
+            longest[child] = terminal.get(child);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = fail[state];
+                while (fallback != ROOT && !transitions.get(fallback).containsKey(edge.getKey())) {
+                    fallback = fail[fallback];
+                }
+                Integer target = transitions.get(fallback).get(edge.getKey());
+                fail[child] = target != null && target != child ? target : ROOT;
+                // 자기 자신이 키워드면 접미사 키워드보다 항상 길다
+                longest[child] = terminal.get(child) != -1 ? terminal.get(child) : longest[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        int[] keywordLength = lengths.stream().mapToInt(Integer::intValue).toArray();
+        return new KeywordMatcher(transitions, fail, longest, keywordLength,
+            categories.toArray(new SpendCategory[0]));
+    }
+
+    public boolean isEmpty() {
+        return categories.length == 0;
+    }
+
+    /**
+     * 요약어에 포함된 가장 긴 키워드의 카테고리
+     */
+    public Optional<SpendCategory> match(String summary) {
+        if (summary == null || isEmpty()) {
+            return Optional.empty();
+        }
+        String text = normalize(summary);
+        int state = ROOT;
+        int best = -1;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (state != ROOT && !transitions.get(state).containsKey(c)) {
+                state = fail[state];
+            }
+            state = transitions.get(state).getOrDefault(c, ROOT);
+            int found = longest[state];
+            if (found != -1 && (best == -1 || keywordLength[found] > keywordLength[best])) {
+                best = found;
+            }
+        }
+        return best == -1 ? Optional.empty() : Optional.of(categories[best]);
+    }
+
+    static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+}
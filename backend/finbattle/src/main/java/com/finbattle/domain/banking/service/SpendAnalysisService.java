@@ -2,21 +2,27 @@ package com.finbattle.domain.banking.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.finbattle.domain.banking.dto.analysis.FastApiResponseDto;
 import com.finbattle.domain.banking.dto.analysis.KeywordCategoryMapping;
-import com.finbattle.domain.banking.model.AiSpendCategoryEntity;
+import com.finbattle.domain.banking.dto.analysis.SummaryAmount;
 import com.finbattle.domain.banking.model.SpendCategory;
 import com.finbattle.domain.banking.model.SpendCategoryEntity;
 import com.finbattle.domain.banking.model.TransactionList;
 import com.finbattle.domain.banking.model.TransactionRecord;
+import com.finbattle.domain.banking.repository.AccountTransactionRepository;
 import com.finbattle.domain.banking.repository.AiCategoryRepository;
 import com.finbattle.domain.banking.repository.CategoryRepository;
-import java.util.ArrayList;
+import com.finbattle.domain.banking.service.SpendCategoryIndex.Resolution;
+import com.finbattle.domain.banking.service.SpendCategoryIndex.Tier;
+import com.finbattle.domain.banking.service.SpendClassificationBatcher.Classification;
+import com.finbattle.global.common.metrics.SpendClassificationMetrics;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -28,9 +34,14 @@ import org.springframework.stereotype.Service;
 @Slf4j // 로깅을 위한 Lombok 어노테이션
 public class SpendAnalysisService {
 
+    private static final Duration CLASSIFY_TIMEOUT = Duration.ofSeconds(3);
+
     private final CategoryRepository categoryRepository;
     private final AiCategoryRepository aiCategoryRepository;
-    private final FastApiClient fastApiClient;
+    private final AccountTransactionRepository accountTransactionRepository;
+    private final SpendCategoryIndex spendCategoryIndex;
+    private final SpendClassificationMetrics spendClassificationMetrics;
+    private final SpendClassificationBatcher spendClassificationBatcher;
     private final ObjectMapper objectMapper;
 
     public String analysisSpend(Map<String, TransactionList> transactionLists)
@@ -54,6 +65,32 @@ public class SpendAnalysisService {
         return json;
     }
 
+    /**
+     * 원장(account_transaction)에 동기화된 거래로 기간 소비를 분석합니다. 요약어별 출금 합계는 SQL 로 집계하고,
+     * 요약어 분류만 기존과 같은 방식(DB → AI 분류 테이블 → FastAPI)으로 처리합니다.
+     *
+     * @param startDate 시작일 (yyyyMMdd, 포함)
+     * @param endDate   종료일 (yyyyMMdd, 포함)
+     */
+    public String analysisSpendFromLedger(Collection<String> accountNos, String startDate,
+        String endDate) throws JsonProcessingException {
+        List<SummaryAmount> amounts = accountTransactionRepository.sumWithdrawalsBySummary(
+            accountNos, startDate, endDate);
+        Map<String, SpendCategoryEntity> summaryToCategory = classifySummaries(
+            amounts.stream().map(SummaryAmount::getSummary).collect(Collectors.toSet()));
+
+        Map<SpendCategory, Long> categories = new HashMap<>();
+        for (SummaryAmount amount : amounts) {
+            SpendCategoryEntity categoryEntity = summaryToCategory.get(amount.getSummary());
+            if (categoryEntity != null && amount.getAmount() != null) {
+                categories.merge(categoryEntity.getCategory(), amount.getAmount(), Long::sum);
+            }
+        }
+        log.info("원장 기반 소비 분석: 계좌 {}개, {} ~ {}, 요약어 {}개", accountNos.size(), startDate,
+            endDate, amounts.size());
+        return objectMapper.writeValueAsString(categories);
+    }
+
     public String aiSearch(Set<String> summaries) throws JsonProcessingException {
         List<KeywordCategoryMapping> aiMappings = aiCategoryRepository.findKeywordCategoryMappings(
             summaries);
@@ -104,28 +141,52 @@ public class SpendAnalysisService {
             .filter(record -> !record.getTransactionTypeName().contains("입금")) // 필터 조건 추가
             .map(TransactionRecord::getTransactionSummary)
             .collect(Collectors.toSet());
+        return classifySummaries(summaries);
+    }
 
-        // 1. DB에서 분류된 카테고리 가져오기
-        List<KeywordCategoryMapping> mappings = categoryRepository.findKeywordCategoryMappings(
-            summaries);
+    private Map<String, SpendCategoryEntity> classifySummaries(Set<String> summaries) {
+        // 0. 메모리 색인 (완전 일치 → 키워드 포함)
+        Map<String, SpendCategoryEntity> summaryToCategory = new HashMap<>();
+        Set<String> notIndexed = new HashSet<>();
+        int substringMatched = 0;
+        for (String summary : summaries) {
+            Optional<Resolution> resolution = spendCategoryIndex.classify(summary);
+            if (resolution.isEmpty()) {
+                notIndexed.add(summary);
+                continue;
+            }
+            summaryToCategory.put(summary,
+                new SpendCategoryEntity(summary, resolution.get().category()));
+            if (resolution.get().tier() == Tier.SUBSTRING) {
+                substringMatched++;
+            }
+        }
+        spendClassificationMetrics.increment("exact",
+            summaryToCategory.size() - substringMatched);
+        spendClassificationMetrics.increment("substring", substringMatched);
+        if (notIndexed.isEmpty()) {
+            return summaryToCategory;
+        }
 
-        Map<String, SpendCategoryEntity> summaryToCategory = mappings.stream()
-            .collect(Collectors.toMap(
-                KeywordCategoryMapping::getKeyword,
-                mapping -> new SpendCategoryEntity(mapping.getKeyword(), mapping.getCategory())
-            ));
+        // 1. DB에서 분류된 카테고리 가져오기 (색인 갱신 전에 다른 서버가 저장한 분류)
+        List<KeywordCategoryMapping> mappings = categoryRepository.findKeywordCategoryMappings(
+            notIndexed);
+        for (KeywordCategoryMapping mapping : mappings) {
+            summaryToCategory.putIfAbsent(mapping.getKeyword(),
+                new SpendCategoryEntity(mapping.getKeyword(), mapping.getCategory()));
+        }
 
         // 2. 분류되지 않은 키워드 2번 카데고리 테이블 조회
-        Set<String> notFound = new HashSet<>(summaries);
+        Set<String> notFound = new HashSet<>(notIndexed);
         notFound.removeAll(summaryToCategory.keySet());
 
         log.info("[AI 분류] AI 분류 시작. 입력 값: {}", notFound);
 
-        List<KeywordCategoryMapping> aiMappings = aiCategoryRepository.findKeywordCategoryMappings(
-            notFound);
+        List<KeywordCategoryMapping> aiMappings = notFound.isEmpty() ? List.of()
+            : aiCategoryRepository.findKeywordCategoryMappings(notFound);
 
         for (KeywordCategoryMapping mapping : aiMappings) {
-            summaryToCategory.put(mapping.getKeyword(),
+            summaryToCategory.putIfAbsent(mapping.getKeyword(),
                 new SpendCategoryEntity(mapping.getKeyword(), mapping.getCategory()));
         }
 
@@ -133,6 +194,7 @@ public class SpendAnalysisService {
         reallyNotFound.removeAll(
             aiMappings.stream().map(KeywordCategoryMapping::getKeyword).collect(Collectors.toSet())
         );
+        spendClassificationMetrics.increment("db", notIndexed.size() - reallyNotFound.size());
 
         // 3. FastAPI로 분류 요청
         Map<String, SpendCategoryEntity> newlyClassified = classifyWithFastApi(reallyNotFound);
@@ -140,8 +202,9 @@ public class SpendAnalysisService {
         // 4. 결과 병합
         summaryToCategory.putAll(newlyClassified);
 
-        log.info("카테고리 분류 완료. 총 거래 내역 수: {}, DB 분류: {}, AI 분류: {}", summaries.size(),
-            summaries.size() - notFound.size(), notFound.size());
+        log.info("카테고리 분류 완료. 총 요약어 수: {}, 색인 분류: {}, DB 분류: {}, AI 분류: {}",
+            summaries.size(), summaries.size() - notIndexed.size(),
+            notIndexed.size() - reallyNotFound.size(), reallyNotFound.size());
 
         String logMessage = summaryToCategory.entrySet().stream()
             .map(entry -> String.format(" - %s → %s", entry.getKey(),
@@ -153,33 +216,32 @@ public class SpendAnalysisService {
         return summaryToCategory;
     }
 
+    // 동시에 들어온 분석들의 요약어와 묶어 FastAPI 로 분류. 제한 시간 안에 분류되지 않은 요약어는 기타로 처리
     private Map<String, SpendCategoryEntity> classifyWithFastApi(Set<String> summaries) {
         if (summaries.isEmpty()) {
             return Collections.emptyMap();
         }
 
+        Map<String, Classification> classified = spendClassificationBatcher.classify(summaries,
+            CLASSIFY_TIMEOUT);
         Map<String, SpendCategoryEntity> result = new HashMap<>();
-        // FastAPI 서버에 요청 → 결과 예: { "스타벅스": "카페", "배달의민족": "식비" }
-
-        List<FastApiResponseDto> resultFromFastApi = fastApiClient.predict(summaries);
-        log.info("[AI 분류] FastAPI 응답 결과:");
-        resultFromFastApi.forEach(dto ->
-            log.info(" - '{}' : '{}'", dto.store_name(), dto.category())
-        );
-
-        List<AiSpendCategoryEntity> entitiesToSave = new ArrayList<>();
-
-        for (FastApiResponseDto entry : resultFromFastApi) {
-            String keyword = entry.store_name();
-            String label = entry.category();
-
-            SpendCategory categoryEnum = SpendCategory.fromLabel(label); // 한글 → Enum
-            AiSpendCategoryEntity entity = new AiSpendCategoryEntity(keyword, categoryEnum);
-            result.put(keyword, new SpendCategoryEntity(keyword, categoryEnum));     // 결과 map 추가
-            entitiesToSave.add(entity);     // DB 저장용 리스트 추가
+        int fromModel = 0;
+        for (String summary : summaries) {
+            Classification classification = classified.get(summary);
+            SpendCategory category =
+                classification != null ? classification.category() : SpendCategory.ETC;
+            if (classification != null && classification.fromModel()) {
+                fromModel++;
+            }
+            result.put(summary, new SpendCategoryEntity(summary, category));
         }
-
-        aiCategoryRepository.saveAll(entitiesToSave); // DB 저장
+        int negative = classified.size() - fromModel;
+        int timedOut = summaries.size() - classified.size();
+        spendClassificationMetrics.increment("fastapi", fromModel);
+        spendClassificationMetrics.increment("negative", negative);
+        spendClassificationMetrics.increment("unresolved", timedOut);
+        log.info("[AI 분류] FastAPI 분류: {}개, 분류 불가로 기타 처리: {}개, 시간 초과로 기타 처리: {}개",
+            fromModel, negative, timedOut);
         return result;
     }
 
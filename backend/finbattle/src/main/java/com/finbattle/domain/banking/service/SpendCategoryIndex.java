@@ -0,0 +1,127 @@
+package com.finbattle.domain.banking.service;
+
+import com.finbattle.domain.banking.dto.analysis.KeywordCategoryMapping;
+import com.finbattle.domain.banking.model.SpendCategory;
+import com.finbattle.domain.banking.repository.AiCategoryRepository;
+import com.finbattle.domain.banking.repository.CategoryRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소비 요약어 → 카테고리 메모리 색인
+ * <p>
+ * spend_category(직접 등록)와 ai_spend_category(모델 분류 결과)를 불러와 완전 일치 해시를 만들고, 부분 일치용
+ * {@link KeywordMatcher}는 직접 등록한 키워드로만 만듭니다. 모델 분류 결과는 요약어 전체(송금 상대 이름 등)라
+ * 부분 일치에 쓰면 그 문자열을 포함한 다른 요약어까지 모델에 묻지 않고 분류되기 때문입니다. 기타(ETC) 키워드도
+ * 부분 일치에서 제외합니다. 같은 키워드는 직접 등록한 분류가 우선합니다. 이 서버에서 분류를 저장하면 바로
+ * 반영하고, 다른 서버가 저장한 분류는 주기적으로 다시 불러와 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpendCategoryIndex {
+
+    private static final long RELOAD_INTERVAL_MINUTES = 10;
+
+    private final CategoryRepository categoryRepository;
+    private final AiCategoryRepository aiCategoryRepository;
+
+    private final ScheduledExecutorService reloader = Executors.newSingleThreadScheduledExecutor();
+    private volatile Snapshot snapshot = Snapshot.of(new LinkedHashMap<>(), new LinkedHashMap<>());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reloader.scheduleWithFixedDelay(this::reloadSafely, 0, RELOAD_INTERVAL_MINUTES,
+            TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdownNow();
+    }
+
+    public Optional<Resolution> classify(String summary) {
+        Snapshot current = snapshot;
+        SpendCategory exact = current.exact().get(summary);
+        if (exact != null) {
+            return Optional.of(new Resolution(exact, Tier.EXACT));
+        }
+        return current.matcher().match(summary)
+            .map(category -> new Resolution(category, Tier.SUBSTRING));
+    }
+
+    /**
+     * 새로 저장한 모델 분류를 완전 일치 색인에 추가 (기존 키워드는 유지)
+     */
+    public synchronized void addAll(Map<String, SpendCategory> mappings) {
+        Map<String, SpendCategory> exact = new LinkedHashMap<>(snapshot.exact());
+        mappings.forEach((keyword, category) -> {
+            if (keyword != null && category != null) {
+                exact.putIfAbsent(keyword, category);
+            }
+        });
+        snapshot = new Snapshot(exact, snapshot.matcher());
+    }
+
+    public synchronized void reload() {
+        Map<String, SpendCategory> curated = new LinkedHashMap<>();
+        for (KeywordCategoryMapping mapping : categoryRepository.findAllKeywordCategoryMappings()) {
+            curated.putIfAbsent(mapping.getKeyword(), mapping.getCategory());
+        }
+        Map<String, SpendCategory> learned = new LinkedHashMap<>();
+        for (KeywordCategoryMapping mapping : aiCategoryRepository.findAllKeywordCategoryMappings()) {
+            learned.putIfAbsent(mapping.getKeyword(), mapping.getCategory());
+        }
+        snapshot = Snapshot.of(curated, learned);
+        log.info("소비 카테고리 색인 갱신: 직접 등록 {}개, 모델 분류 {}개", curated.size(), learned.size());
+    }
+
+    private void reloadSafely() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("소비 카테고리 색인 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    public enum Tier {
+        EXACT, SUBSTRING
+    }
+
+    public record Resolution(SpendCategory category, Tier tier) {
+
+    }
+
+    private record Snapshot(Map<String, SpendCategory> exact, KeywordMatcher matcher) {
+
+        // 완전 일치는 직접 등록한 분류가 우선, 부분 일치는 직접 등록한 기타 외 분류만 사용
+        static Snapshot of(Map<String, SpendCategory> curated, Map<String, SpendCategory> learned) {
+            Map<String, SpendCategory> exact = new LinkedHashMap<>();
+            Map<String, SpendCategory> substring = new LinkedHashMap<>();
+            curated.forEach((keyword, category) -> {
+                if (keyword != null && category != null) {
+                    exact.put(keyword, category);
+                    if (category != SpendCategory.ETC) {
+                        substring.put(keyword, category);
+                    }
+                }
+            });
+            learned.forEach((keyword, category) -> {
+                if (keyword != null && category != null) {
+                    exact.putIfAbsent(keyword, category);
+                }
+            });
+            return new Snapshot(exact, KeywordMatcher.of(substring));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.finbattle.domain.banking.service;
+
+import com.finbattle.domain.banking.dto.analysis.FastApiResponseDto;
+import com.finbattle.domain.banking.model.SpendCategory;
+import com.finbattle.domain.banking.repository.AiCategoryJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * FastAPI 소비 분류 요청 묶음 처리기
+ * <p>
+ * 동시에 진행 중인 분석들이 요청한 미분류 요약어를 {@value #WINDOW_MILLIS}ms 동안 모아 중복 없이 한 번의
+ * /predict 로 보냅니다. 이미 요청 중인 요약어는 같은 결과를 기다립니다. 분류 결과는 ai_spend_category 와
+ * {@link SpendCategoryIndex}에 저장해 다음부터는 FastAPI 를 부르지 않습니다. 모델이 결과를 주지 않은 요약어는
+ * 기타(ETC)로 일정 시간 기억해 같은 요약어를 반복해서 묻지 않습니다.
+ * <p>
+ * 호출자는 정해진 시간까지만 기다리고, 그때까지 분류되지 않은 요약어는 결과에서 빠집니다. (호출자가 기타로 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpendClassificationBatcher {
+
+    private static final long WINDOW_MILLIS = 20;
+    private static final int MAX_BATCH_SIZE = 200;
+    private static final Duration PREDICT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration MISSING_TTL = Duration.ofHours(1); // 모델이 분류하지 못한 요약어
+    private static final Duration FAILURE_TTL = Duration.ofMinutes(1); // 호출 실패
+    private static final int NEGATIVE_CACHE_SIZE = 10_000;
+
+    private final FastApiClient fastApiClient;
+    private final AiCategoryJdbcRepository aiCategoryJdbcRepository;
+    private final SpendCategoryIndex spendCategoryIndex;
+
+    private final Map<String, CompletableFuture<Classification>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+
+    private final Map<String, Long> negativeCache = Collections.synchronizedMap(
+        new LinkedHashMap<String, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > NEGATIVE_CACHE_SIZE;
+            }
+        });
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+    }
+
+    /**
+     * @param timeout 분류 결과를 기다릴 최대 시간
+     * @return 제한 시간 안에 결과가 정해진 요약어의 분류 (못 받은 요약어는 빠짐)
+     */
+    public Map<String, Classification> classify(Collection<String> summaries, Duration timeout) {
+        Map<String, Classification> result = new HashMap<>();
+        Map<String, CompletableFuture<Classification>> waiting = new HashMap<>();
+        for (String summary : summaries) {
+            if (summary == null) {
+                continue;
+            }
+            if (isNegativelyCached(summary)) {
+                result.put(summary, Classification.UNKNOWN);
+                continue;
+            }
+            waiting.put(summary, inFlight.computeIfAbsent(summary, key -> {
+                pending.add(key);
+                return new CompletableFuture<>();
+            }));
+        }
+        if (waiting.isEmpty()) {
+            return result;
+        }
+        requestFlush();
+
+        try {
+            CompletableFuture.allOf(waiting.values().toArray(new CompletableFuture[0]))
+                .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("[AI 분류] 제한 시간 초과, 미분류 요약어는 기타로 처리");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("[AI 분류] 분류 실패: {}", e.getMessage());
+        }
+        waiting.forEach((summary, future) -> {
+            Classification classification = future.getNow(null);
+            if (classification != null) {
+                result.put(summary, classification);
+            }
+        });
+        return result;
+    }
+
+    private void requestFlush() {
+        if (pending.size() >= MAX_BATCH_SIZE) {
+            flusher.execute(this::flush);
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            flusher.schedule(() -> {
+                flushScheduled.set(false);
+                flush();
+            }, WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        List<String> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        String summary;
+        while ((summary = pending.poll()) != null) {
+            batch.add(summary);
+            if (batch.size() == MAX_BATCH_SIZE) {
+                send(batch);
+                batch = new ArrayList<>(MAX_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private void send(List<String> batch) {
+        log.info("[AI 분류] FastAPI 요청: {}개", batch.size());
+        fastApiClient.predictAsync(batch)
+            .timeout(PREDICT_TIMEOUT)
+            .publishOn(Schedulers.boundedElastic())
+            .subscribe(response -> complete(batch, response), e -> {
+                log.warn("[AI 분류] FastAPI 호출 실패: {}", e.toString());
+                batch.forEach(key -> {
+                    remember(key, FAILURE_TTL);
+                    finish(key, Classification.UNKNOWN);
+                });
+            });
+    }
+
+    private void complete(List<String> batch, List<FastApiResponseDto> response) {
+        Map<String, SpendCategory> classified = new LinkedHashMap<>();
+        for (FastApiResponseDto entry : response) {
+            if (entry.store_name() != null) {
+                // 한글 라벨 → Enum (모르는 라벨은 기타)
+                classified.putIfAbsent(entry.store_name(),
+                    SpendCategory.fromLabel(entry.category()));
+            }
+        }
+        try {
+            aiCategoryJdbcRepository.insertIgnoringExisting(classified);
+            spendCategoryIndex.addAll(classified);
+        } catch (Exception e) {
+            log.warn("[AI 분류] 분류 결과 저장 실패: {}", e.getMessage());
+        }
+        for (String key : batch) {
+            SpendCategory category = classified.get(key);
+            if (category == null) {
+                remember(key, MISSING_TTL);
+                finish(key, Classification.UNKNOWN);
+            } else {
+                finish(key, new Classification(category, true));
+            }
+        }
+    }
+
+    private void finish(String summary, Classification classification) {
+        CompletableFuture<Classification> future = inFlight.remove(summary);
+        if (future != null) {
+            future.complete(classification);
+        }
+    }
+
+    private void remember(String summary, Duration ttl) {
+        negativeCache.put(summary, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    private boolean isNegativelyCached(String summary) {
+        Long expiresAt = negativeCache.get(summary);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() > expiresAt) {
+            negativeCache.remove(summary);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param fromModel 모델이 돌려준 분류인지 여부 (false 면 호출 실패·라벨 없음·부정 캐시로 정해진 기타)
+     */
+    public record Classification(SpendCategory category, boolean fromModel) {
+
+        static final Classification UNKNOWN = new Classification(SpendCategory.ETC, false);
+    }
+}
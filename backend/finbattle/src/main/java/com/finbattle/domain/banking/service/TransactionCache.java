@@ -0,0 +1,94 @@
+package com.finbattle.domain.banking.service;
+
+import com.finbattle.domain.banking.model.CachedTransactionList;
+import com.finbattle.domain.banking.model.TransactionList;
+import com.finbattle.domain.banking.repository.TransactionRedisRepository;
+import com.finbattle.domain.banking.service.TransactionCachePolicy.Policy;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 거래 내역 캐시 (L1: 인스턴스 로컬 LRU, L2: Redis)
+ * <p>
+ * 만료 시간은 {@link TransactionCachePolicy}가 월별로 정합니다. L1 은 Redis 왕복을 줄이기 위한 짧은 사본이며,
+ * 갱신 여부는 값에 담긴 조회 시각으로 판단하므로 L1/L2 어느 쪽에서 읽어도 같은 기준이 적용됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionCache {
+
+    private static final int L1_MAX_SIZE = 2_000;
+
+    private final TransactionRedisRepository transactionRedisRepository;
+    private final TransactionCachePolicy transactionCachePolicy;
+
+    private final Map<String, LocalEntry> localCache = Collections.synchronizedMap(
+        new LinkedHashMap<String, LocalEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > L1_MAX_SIZE;
+            }
+        });
+
+    public Policy policyFor(String startDate) {
+        return transactionCachePolicy.forStartDate(startDate);
+    }
+
+    public Mono<CachedTransactionList> find(String accountNo, String startDate) {
+        String key = localKey(accountNo, startDate);
+        LocalEntry local = localCache.get(key);
+        if (local != null && !local.isExpired()) {
+            return Mono.just(local.value());
+        }
+        return findRemote(accountNo, startDate);
+    }
+
+    /**
+     * L1 을 건너뛰고 Redis 에서 아직 갱신 시점이 지나지 않은 값만 조회 (다른 인스턴스가 이미 갱신했는지 확인용)
+     */
+    public Mono<CachedTransactionList> findFresh(String accountNo, String startDate) {
+        Policy policy = policyFor(startDate);
+        return findRemote(accountNo, startDate)
+            .filter(cached -> !policy.needsRefresh(cached.getAgeMillis()));
+    }
+
+    private Mono<CachedTransactionList> findRemote(String accountNo, String startDate) {
+        return Mono.fromCallable(() -> transactionRedisRepository.findById(accountNo, startDate)
+                .orElse(null))
+            .subscribeOn(Schedulers.boundedElastic())
+            .doOnNext(cached -> putLocal(localKey(accountNo, startDate), cached,
+                policyFor(startDate)));
+    }
+
+    public Mono<TransactionList> save(String accountNo, String startDate,
+        CachedTransactionList cached) {
+        Policy policy = policyFor(startDate);
+        TransactionList transactions = cached.getTransactions();
+        return Mono.fromRunnable(() -> transactionRedisRepository.save(accountNo, cached,
+                startDate, policy.ttl()))
+            .subscribeOn(Schedulers.boundedElastic())
+            .doOnSuccess(ignored -> putLocal(localKey(accountNo, startDate), cached, policy))
+            .thenReturn(transactions);
+    }
+
+    private void putLocal(String key, CachedTransactionList cached, Policy policy) {
+        localCache.put(key,
+            new LocalEntry(cached, System.currentTimeMillis() + policy.localTtl().toMillis()));
+    }
+
+    private String localKey(String accountNo, String startDate) {
+        return accountNo + ":" + startDate.substring(0, 6);
+    }
+
+    private record LocalEntry(CachedTransactionList value, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.finbattle.domain.banking.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래 내역 캐시의 월별 만료 정책
+ * <p>
+ * 마감된 달(말일로부터 {@value #SETTLE_DAYS}일 경과)의 내역은 더 바뀌지 않으므로 오래 보관하고 거의 갱신하지
+ * 않습니다. 이번 달(과 마감 직후의 지난달)은 짧게 신선하다고 보고, 그 뒤로는 보관 기간 동안 기존 값을 바로
+ * 돌려주면서 백그라운드에서 갱신합니다. (stale-while-revalidate)
+ * <p>
+ * 이번 달의 갱신은 마지막 거래 이후 내역만 받아 붙이는 증분 동기화이며, 누락/정정을 바로잡기 위해
+ * {@code reconcileAfter}마다 한 달 전체를 다시 받습니다. 마감된 달은 항상 전체를 받습니다.
+ */
+@Component
+public class TransactionCachePolicy {
+
+    private static final DateTimeFormatter YEAR_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int SETTLE_DAYS = 3; // 월말 거래가 늦게 반영되는 기간
+
+    private static final Policy OPEN_MONTH = new Policy(
+        Duration.ofMinutes(1), Duration.ofMinutes(10), Duration.ofSeconds(30),
+        Duration.ofMinutes(30));
+    private static final Policy CLOSED_MONTH = new Policy(
+        Duration.ofDays(7), Duration.ofDays(30), Duration.ofMinutes(10), Duration.ZERO);
+
+    /**
+     * @param startDate 조회 시작일 (yyyyMMdd)
+     */
+    public Policy forStartDate(String startDate) {
+        YearMonth month = YearMonth.parse(startDate.substring(0, 6), YEAR_MONTH);
+        LocalDate settledAt = month.atEndOfMonth().plusDays(SETTLE_DAYS);
+        return LocalDate.now().isAfter(settledAt) ? CLOSED_MONTH : OPEN_MONTH;
+    }
+
+    /**
+     * @param refreshAfter   이 시간이 지나면 값을 돌려주면서 백그라운드 갱신
+     * @param ttl            Redis 보관 기간 (이후에는 미스)
+     * @param localTtl       인스턴스 로컬 캐시 보관 기간
+     * @param reconcileAfter 이 시간이 지나면 증분 대신 한 달 전체를 다시 조회
+     */
+    public record Policy(Duration refreshAfter, Duration ttl, Duration localTtl,
+                         Duration reconcileAfter) {
+
+        public boolean needsRefresh(long ageMillis) {
+            return ageMillis >= refreshAfter.toMillis();
+        }
+
+        public boolean needsReconcile(long reconciledAgeMillis) {
+            return reconciledAgeMillis >= reconcileAfter.toMillis();
+        }
+    }
+}
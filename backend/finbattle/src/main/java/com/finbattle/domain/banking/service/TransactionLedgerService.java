@@ -0,0 +1,120 @@
+package com.finbattle.domain.banking.service;
+
+import com.finbattle.domain.banking.model.AccountTransactionMonth;
+import com.finbattle.domain.banking.model.TransactionRecord;
+import com.finbattle.domain.banking.repository.AccountTransactionMonthRepository;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 동기화한 거래 내역을 account_transaction 원장에 반영
+ * <p>
+ * 같은 거래가 여러 번 동기화되어도 (계좌번호, 거래 고유번호) 기준 upsert 라 한 행만 남고, 정정된 값으로 덮어씁니다.
+ * 한 달 전체를 반영하면 같은 트랜잭션에서 account_transaction_month 에 (계좌, 월)을 기록해, 원장 집계 전에 빠진 달을
+ * 확인할 수 있게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionLedgerService {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO account_transaction (account_no, transaction_unique_no, transaction_month,
+            transaction_date, transaction_time, transaction_type_name, transaction_balance,
+            transaction_summary, synced_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (account_no, transaction_unique_no) DO UPDATE SET
+            transaction_month = EXCLUDED.transaction_month,
+            transaction_date = EXCLUDED.transaction_date,
+            transaction_time = EXCLUDED.transaction_time,
+            transaction_type_name = EXCLUDED.transaction_type_name,
+            transaction_balance = EXCLUDED.transaction_balance,
+            transaction_summary = EXCLUDED.transaction_summary,
+            synced_at = EXCLUDED.synced_at
+        """;
+    private static final String MARK_MONTH_SQL = """
+        INSERT INTO account_transaction_month (account_no, transaction_month, synced_at)
+        VALUES (?, ?, ?)
+        ON CONFLICT (account_no, transaction_month) DO UPDATE SET synced_at = EXCLUDED.synced_at
+        """;
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountTransactionMonthRepository accountTransactionMonthRepository;
+
+    /**
+     * 한 달 전체 거래를 반영하고 해당 월을 원장에 반영된 달로 기록 (거래가 없는 달도 기록)
+     *
+     * @param month yyyyMM
+     * @return 반영한 거래 수
+     */
+    @Transactional
+    public int recordMonth(String accountNo, int month, List<TransactionRecord> records) {
+        int recorded = record(accountNo, records);
+        jdbcTemplate.update(MARK_MONTH_SQL, accountNo, month,
+            Timestamp.valueOf(LocalDateTime.now()));
+        return recorded;
+    }
+
+    /**
+     * @return 계좌번호 → 기간 내 원장에 반영된 달(yyyyMM)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Set<Integer>> findSyncedMonths(Collection<String> accountNos,
+        int fromMonth, int toMonth) {
+        Map<String, Set<Integer>> synced = new HashMap<>();
+        if (accountNos.isEmpty()) {
+            return synced;
+        }
+        for (AccountTransactionMonth month : accountTransactionMonthRepository
+            .findByAccountNoInAndTransactionMonthBetween(accountNos, fromMonth, toMonth)) {
+            synced.computeIfAbsent(month.getAccountNo(), accountNo -> new HashSet<>())
+                .add(month.getTransactionMonth());
+        }
+        return synced;
+    }
+
+    /**
+     * 고유번호나 거래일이 없는 거래는 원장 키를 만들 수 없어 제외합니다.
+     *
+     * @return 반영한 거래 수
+     */
+    public int record(String accountNo, List<TransactionRecord> records) {
+        Timestamp syncedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(records.size());
+        for (TransactionRecord record : records) {
+            String date = record.getTransactionDate();
+            if (record.getTransactionUniqueNo() == null || date == null
+                || !date.matches("\\d{8}")) {
+                continue;
+            }
+            args.add(new Object[]{accountNo, record.getTransactionUniqueNo(),
+                Integer.parseInt(date.substring(0, 6)), date, record.getTransactionTime(),
+                record.getTransactionTypeName(), record.getTransactionBalance(),
+                record.getTransactionSummary(), syncedAt});
+        }
+        if (args.isEmpty()) {
+            return 0;
+        }
+        int[] types = {Types.VARCHAR, Types.BIGINT, Types.INTEGER, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.TIMESTAMP};
+        for (int from = 0; from < args.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL,
+                args.subList(from, Math.min(from + BATCH_SIZE, args.size())), types);
+        }
+        return args.size();
+    }
+}
@@ -1,20 +1,30 @@
 package com.finbattle.domain.cat.service;
 
+import static com.finbattle.global.common.model.dto.BaseResponseStatus.CAT_ALL_GONE;
 import static com.finbattle.global.common.model.dto.BaseResponseStatus.CAT_NOT_FOUND;
 
 import com.finbattle.domain.cat.entity.Cat;
 import com.finbattle.domain.cat.repository.CatRepository;
 import com.finbattle.global.common.exception.exception.BusinessException;
+import java.security.SecureRandom;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CatService {
 
+    // SecureRandom 은 스레드 안전하므로 뽑기 요청 전체가 공유
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final CatRepository catRepository;
 
+    // 고양이 목록이 바뀔 때만 다시 만드는 뽑기 확률표 (첫 뽑기 시 생성)
+    private volatile GachaTable gachaTable;
+
     // 1. 전체 고양이 조회
     public List<Cat> findAll() {
         return catRepository.findAll();
@@ -32,4 +42,38 @@ public class CatService {
             .orElseThrow(() -> new BusinessException(CAT_NOT_FOUND));
     }
 
+    // 4. 고양이 뽑기 (count 회)
+    public List<Cat> drawCats(int count) {
+        GachaTable table = getGachaTable();
+        if (table.isEmpty()) {
+            // 뽑을 수 있는 고양이가 없으면 기본 고양이 지급
+            return List.of(findByCatName("classic"));
+        }
+        return table.draw(RANDOM, count);
+    }
+
+    /**
+     * 고양이가 추가/변경된 뒤 호출해 뽑기 확률표를 다시 만듭니다.
+     */
+    public void refreshGachaTable() {
+        List<Cat> cats = catRepository.findAll();
+        if (cats.isEmpty()) {
+            throw new BusinessException(CAT_ALL_GONE);
+        }
+        gachaTable = GachaTable.of(cats);
+        log.info("🎲 뽑기 확률표 갱신: {}마리", gachaTable.size());
+    }
+
+    private GachaTable getGachaTable() {
+        GachaTable table = gachaTable;
+        if (table == null) {
+            synchronized (this) {
+                if (gachaTable == null) {
+                    refreshGachaTable();
+                }
+                table = gachaTable;
+            }
+        }
+        return table;
+    }
 }
@@ -0,0 +1,121 @@
+package com.finbattle.domain.cat.service;
+
+import com.finbattle.domain.cat.entity.Cat;
+import com.finbattle.domain.cat.entity.CatGrade;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * 고양이 뽑기 확률표 (불변)
+ * <p>
+ * 등급별 총 확률(LEGENDARY 1%, EPIC 10%, COMMON 나머지)을 등급 내 고양이 수로 나눠 개별 확률을 정하고,
+ * Vose 의 alias method 로 전처리해 한 번의 뽑기를 난수 두 개, O(1) 로 처리합니다.
+ * DEFAULT 등급(기본 고양이)은 뽑기 대상이 아니며, 비어 있는 등급의 확률은 나머지 등급에 비례 배분됩니다.
+ */
+public final class GachaTable {
+
+    private static final Map<CatGrade, Double> GRADE_RATES = new EnumMap<>(Map.of(
+        CatGrade.LEGENDARY, 0.01,
+        CatGrade.EPIC, 0.10,
+        CatGrade.COMMON, 0.89
+    ));
+
+    private final Cat[] cats;
+    private final double[] probability;
+    private final int[] alias;
+
+    private GachaTable(Cat[] cats, double[] probability, int[] alias) {
+        this.cats = cats;
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    public static GachaTable of(List<Cat> allCats) {
+        Map<CatGrade, List<Cat>> byGrade = new EnumMap<>(CatGrade.class);
+        for (Cat cat : allCats) {
+            if (cat.getGrade() != null && GRADE_RATES.containsKey(cat.getGrade())) {
+                byGrade.computeIfAbsent(cat.getGrade(), grade -> new ArrayList<>()).add(cat);
+            }
+        }
+
+        List<Cat> cats = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        byGrade.forEach((grade, gradeCats) -> {
+            double perCat = GRADE_RATES.get(grade) / gradeCats.size();
+            for (Cat cat : gradeCats) {
+                cats.add(cat);
+                weights.add(perCat);
+            }
+        });
+        return build(cats, weights);
+    }
+
+    // Vose's alias method
+    private static GachaTable build(List<Cat> cats, List<Double> weights) {
+        int n = cats.size();
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        if (n == 0) {
+            return new GachaTable(new Cat[0], probability, alias);
+        }
+
+        double total = weights.stream().mapToDouble(Double::doubleValue).sum();
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights.get(i) * n / total;
+            if (scaled[i] < 1.0) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+        // 부동소수점 오차로 남은 칸은 확률 1
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1.0;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1.0;
+        }
+        return new GachaTable(cats.toArray(new Cat[0]), probability, alias);
+    }
+
+    public boolean isEmpty() {
+        return cats.length == 0;
+    }
+
+    public int size() {
+        return cats.length;
+    }
+
+    public Cat draw(RandomGenerator random) {
+        int column = random.nextInt(cats.length);
+        return random.nextDouble() < probability[column] ? cats[column] : cats[alias[column]];
+    }
+
+    public List<Cat> draw(RandomGenerator random, int count) {
+        List<Cat> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            picked.add(draw(random));
+        }
+        return picked;
+    }
+}
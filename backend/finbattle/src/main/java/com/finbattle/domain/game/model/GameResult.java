@@ -0,0 +1,50 @@
+package com.finbattle.domain.game.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 종료된 게임의 결과 (방마다 1건, 보상 정산의 기준)
+ * 무승부이면 winnerId, loserId 가 null
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "game_result")
+public class GameResult {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "game_result_id")
+    private Long gameResultId;
+
+    // 같은 방의 게임 종료가 중복 처리되어도 보상이 두 번 기록되지 않도록 유일 제약
+    @Column(name = "room_id", nullable = false, unique = true)
+    private Long roomId;
+
+    @Column(name = "winner_id")
+    private Long winnerId;
+
+    @Column(name = "loser_id")
+    private Long loserId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,61 @@
+package com.finbattle.domain.game.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게임 결과와 같은 트랜잭션에서 기록되는 회원별 보상 지급 예정 내역 (transactional outbox)
+ * RewardSettlementWorker 가 미처리 행을 읽어 member 의 exp/point 에 반영하고 processed 로 표시합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "reward_outbox", indexes = {
+    @Index(name = "idx_reward_outbox_processed", columnList = "processed, reward_outbox_id")
+})
+public class RewardOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reward_outbox_id")
+    private Long rewardOutboxId;
+
+    @Column(name = "game_result_id", nullable = false)
+    private Long gameResultId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "exp", nullable = false)
+    private Long exp;
+
+    @Column(name = "point", nullable = false)
+    private Long point;
+
+    @Column(name = "processed", nullable = false)
+    private boolean processed;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,9 @@
+package com.finbattle.domain.game.repository;
+
+import com.finbattle.domain.game.model.GameResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GameResultRepository extends JpaRepository<GameResult, Long> {
+
+    boolean existsByRoomId(Long roomId);
+}
@@ -0,0 +1,27 @@
+package com.finbattle.domain.game.repository;
+
+import com.finbattle.domain.game.model.RewardOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RewardOutboxRepository extends JpaRepository<RewardOutbox, Long> {
+
+    // 여러 인스턴스의 워커가 같은 행을 동시에 처리하지 않도록 잠긴 행은 건너뜀
+    @Query(value = """
+            SELECT * FROM reward_outbox
+            WHERE processed = false
+            ORDER BY reward_outbox_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<RewardOutbox> lockPending(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE RewardOutbox o SET o.processed = true, o.processedAt = :processedAt WHERE o.rewardOutboxId IN :ids")
+    int markProcessed(@Param("ids") List<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+}
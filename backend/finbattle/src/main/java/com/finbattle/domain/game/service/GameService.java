@@ -9,29 +9,29 @@ import com.finbattle.domain.game.dto.GameMemberStatus;
 import com.finbattle.domain.game.model.EssayCorrected;
 import com.finbattle.domain.game.model.GameData;
 import com.finbattle.domain.game.repository.RedisGameRepository;
-import com.finbattle.domain.member.service.MemberFacadeService;
 import com.finbattle.domain.quiz.dto.EssayQuizDto;
 import com.finbattle.domain.quiz.dto.MultipleChoiceQuizDto;
+import com.finbattle.domain.quiz.dto.QuizDto;
 import com.finbattle.domain.quiz.dto.ShortAnswerQuizDto;
+import com.finbattle.domain.quiz.event.QuizAnsweredEvent;
 import com.finbattle.domain.quiz.model.QuizLog;
 import com.finbattle.domain.quiz.model.QuizMode;
-import com.finbattle.domain.quiz.repository.QuizLogRepository;
-import com.finbattle.domain.room.dto.RoomStatus;
-import com.finbattle.domain.room.model.Room;
+import com.finbattle.domain.quiz.service.QuizLogSink;
 import com.finbattle.domain.room.repository.RedisRoomRepository;
-import com.finbattle.domain.room.repository.RoomRepository;
 import com.finbattle.global.common.redis.RedisPublisher;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -44,13 +44,15 @@ public class GameService {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final QuizTimerService quizTimerService;
     private final EssayAiScoringService essayAiScoringService;
-    private final RoomRepository roomRepository;
-    private final QuizLogRepository quizLogRepository;
+    private final QuizLogSink quizLogSink;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Map<Long, LocalDateTime> lastAnswerMap = new ConcurrentHashMap<>();
+    private final Set<String> pendingEssays = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Object> essayLocks = new ConcurrentHashMap<>();
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(100);
     private final RedisRoomRepository redisRoomRepository;
-    private final MemberFacadeService memberFacadeService;
+    private final GameSettlementService gameSettlementService;
 
     public void startAutoGame(Long roomId) {
         if (!canStartGame(roomId)) {
@@ -227,13 +229,8 @@ public class GameService {
                 )
             );
             publishToGame(roomId, resultMessage);
-            QuizLog log = QuizLog.builder()
-                .memberId(memberId)
-                .quizId(quizId)
-                .userAnswer(userAnswer)
-                .isCorrect(isCorrect)
-                .build();
-            quizLogRepository.save(log);
+            // 번호가 아닌 입력은 채팅이므로 기록만 하고 통계에는 반영하지 않음
+            saveQuizLog(quiz, memberId, userAnswer, isCorrect, isNumericAnswer);
             if (isCorrect) {
                 for (GameMemberStatus member : gameData.getGameMemberStatusList()) {
                     lastAnswerMap.remove(member.getMemberId());
@@ -258,13 +255,7 @@ public class GameService {
                 )
             );
             publishToGame(roomId, resultMessage);
-            QuizLog log = QuizLog.builder()
-                .memberId(memberId)
-                .quizId(quizId)
-                .userAnswer(userAnswer)
-                .isCorrect(isCorrect)
-                .build();
-            quizLogRepository.save(log);
+            saveQuizLog(quiz, memberId, userAnswer, isCorrect, true);
             if (isCorrect) {
                 quizTimerService.cancelQuizTasks(roomId);
                 updateUserLives(gameData, memberId);
@@ -279,28 +270,87 @@ public class GameService {
                     return;
                 }
             }
+            String pendingKey = roomId + ":" + memberId;
+            if (!pendingEssays.add(pendingKey)) {
+                return; // 이미 채점 중인 답변이 있으면 무시
+            }
             quizId = quiz.getQuizId();
-            int score = essayAiScoringService.scoreEssayAnswer(quiz.getEssayQuestion(), userAnswer);
-            isCorrect = score >= 0;
+            publishToGame(roomId, new EventMessage<>(
+                EventType.QUIZ_RESULT,
+                roomId,
+                Map.of(
+                    "quizId", quizId,
+                    "result", "채점 중입니다.",
+                    "sender", nickname
+                )
+            ));
+            Long essayQuizId = quizId;
+            essayAiScoringService.scoreEssayAnswerAsync(quizId, quiz.getEssayQuestion(), userAnswer)
+                .whenComplete((score, ex) -> {
+                    try {
+                        if (ex != null) {
+                            log.error("❌ 서술형 채점 실패: roomId={}, memberId={}, {}", roomId,
+                                memberId, ex.toString());
+                            publishToGame(roomId, new EventMessage<>(
+                                EventType.QUIZ_RESULT,
+                                roomId,
+                                Map.of(
+                                    "quizId", essayQuizId,
+                                    "result", "채점에 실패했습니다. 다시 제출해주세요.",
+                                    "sender", nickname
+                                )
+                            ));
+                            return;
+                        }
+                        applyEssayScore(roomId, quiz, memberId, nickname, userAnswer, score);
+                    } catch (Exception e) {
+                        log.error("❌ 서술형 채점 결과 반영 실패: roomId={}", roomId, e);
+                    } finally {
+                        pendingEssays.remove(pendingKey);
+                    }
+                });
+        }
+    }
+
+    // 답안 기록은 버퍼에 넣고(비동기 배치 저장), 실제 풀이 시도이면 통계 갱신 이벤트 발행
+    private void saveQuizLog(QuizDto quiz, Long memberId, String userAnswer, boolean isCorrect,
+        boolean attempted) {
+        QuizLog log = QuizLog.builder()
+            .memberId(memberId)
+            .quizId(quiz.getQuizId())
+            .userAnswer(userAnswer)
+            .isCorrect(isCorrect)
+            .build();
+        quizLogSink.append(log);
+        if (attempted) {
+            eventPublisher.publishEvent(new QuizAnsweredEvent(memberId, quiz.getQuizId(),
+                quiz.getQuizMode(), quiz.getSubjectType(), isCorrect));
+        }
+    }
+
+    // 비동기 채점 결과를 게임 상태에 반영 (방 단위로 직렬화)
+    private void applyEssayScore(Long roomId, EssayQuizDto quiz, Long memberId, String nickname,
+        String userAnswer, int score) {
+        Long quizId = quiz.getQuizId();
+        boolean isCorrect = score >= 0;
+        saveQuizLog(quiz, memberId, userAnswer, isCorrect, true);
+
+        synchronized (essayLocks.computeIfAbsent(roomId, id -> new Object())) {
+            GameData gameData = redisGameRepository.findById(roomId).orElse(null);
+            if (gameData == null || gameData.getCurrentQuizNum() == null
+                || gameData.getCurrentQuizNum() != 9
+                || !quizId.equals(gameData.getEssayQuiz().getQuizId())
+                || !quizTimerService.hasQuizTask(roomId)) {
+                return; // 채점이 끝나기 전에 서술형 문제가 종료됨
+            }
             Map<String, Object> essayResult = Map.of(
                 "quizId", quizId,
                 "score", score,
                 "sender", nickname
             );
-            EventMessage<Map<String, Object>> essayResultMessage = new EventMessage<>(
-                EventType.QUIZ_RESULT,
-                roomId,
-                essayResult
-            );
-            publishToGame(roomId, essayResultMessage);
-            QuizLog log = QuizLog.builder()
-                .memberId(memberId)
-                .quizId(quizId)
-                .userAnswer(userAnswer)
-                .isCorrect(isCorrect)
-                .build();
-            quizLogRepository.save(log);
+            publishToGame(roomId, new EventMessage<>(EventType.QUIZ_RESULT, roomId, essayResult));
             if (isCorrect) {
+                List<EssayCorrected> correcteds = gameData.getEssayCorrectedList();
                 correcteds.add(new EssayCorrected(memberId, score, LocalDateTime.now()));
                 redisGameRepository.save(gameData);
                 if (correcteds.size() >= 2) {
@@ -401,20 +451,17 @@ public class GameService {
             winnerId = member2.getMemberId();
             loserId = member1.getMemberId();
         }
-        if (winnerId != -1L) {
-            memberFacadeService.updateExpAndPoint(winnerId, 150L, 300L);
-            memberFacadeService.updateExpAndPoint(loserId, 75L, 100L);
-        } else {
-            for (GameMemberStatus m : gameData.getGameMemberStatusList()) {
-                memberFacadeService.updateExpAndPoint(m.getMemberId(), 75L, 100L);
-            }
-        }
+        List<Long> memberIds = gameData.getGameMemberStatusList().stream()
+            .map(GameMemberStatus::getMemberId)
+            .toList();
+        // 결과와 보상 내역만 기록하고 exp/point 반영은 RewardSettlementWorker 가 처리
+        gameSettlementService.recordResult(roomId,
+            winnerId == -1L ? null : winnerId,
+            loserId == -1L ? null : loserId,
+            memberIds);
         redisGameRepository.deleteById(roomId);
         redisRoomRepository.deleteById(roomId);
-        Room room = roomRepository.findById(roomId)
-            .orElseThrow(() -> new IllegalArgumentException("방을 찾을 수 없습니다."));
-        room.setStatus(RoomStatus.CLOSED);
-        roomRepository.save(room);
+        essayLocks.remove(roomId);
         Map<String, Object> data = Map.of(
             "winner", winnerId,
             "loser", loserId
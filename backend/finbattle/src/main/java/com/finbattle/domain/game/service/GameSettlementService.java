@@ -0,0 +1,113 @@
+package com.finbattle.domain.game.service;
+
+import com.finbattle.domain.game.model.GameResult;
+import com.finbattle.domain.game.model.RewardOutbox;
+import com.finbattle.domain.game.repository.GameResultRepository;
+import com.finbattle.domain.game.repository.RewardOutboxRepository;
+import com.finbattle.domain.member.event.MemberInfoChangedEvent;
+import com.finbattle.domain.room.dto.RoomStatus;
+import com.finbattle.domain.room.repository.RoomRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게임 종료 보상 정산
+ * <p>
+ * 게임 종료 시에는 결과 1건과 회원별 보상 outbox 행을 한 트랜잭션으로 기록만 하고, 실제 exp/point 반영은
+ * {@link RewardSettlementWorker}가 묶음 단위로 처리합니다. 반영은 회원 엔티티를 읽어 저장하지 않고
+ * 증분 UPDATE 로 수행하므로 다른 경로의 포인트 변경과 겹쳐도 값이 유실되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameSettlementService {
+
+    private static final long WIN_EXP = 150L;
+    private static final long WIN_POINT = 300L;
+    private static final long DEFAULT_EXP = 75L;     // 패배, 무승부
+    private static final long DEFAULT_POINT = 100L;
+
+    // MemberRepository.increaseExpAndPoint 와 같은 갱신 (updated_at 포함)
+    private static final String APPLY_REWARD_SQL =
+        "UPDATE member SET exp = exp + ?, point = point + ?, updated_at = now() "
+            + "WHERE member_id = ?";
+
+    private final GameResultRepository gameResultRepository;
+    private final RewardOutboxRepository rewardOutboxRepository;
+    private final RoomRepository roomRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게임 결과와 보상 지급 예정 내역을 기록하고 방을 종료 상태로 바꿉니다.
+     *
+     * @param winnerId 무승부이면 null
+     * @param loserId  무승부이면 null
+     * @return 새로 기록했으면 true, 이미 정산된 방이면 false
+     */
+    @Transactional
+    public boolean recordResult(Long roomId, Long winnerId, Long loserId, List<Long> memberIds) {
+        if (gameResultRepository.existsByRoomId(roomId)) {
+            log.warn("이미 정산된 게임입니다: roomId={}", roomId);
+            return false;
+        }
+        GameResult result = gameResultRepository.save(GameResult.builder()
+            .roomId(roomId)
+            .winnerId(winnerId)
+            .loserId(loserId)
+            .build());
+
+        List<RewardOutbox> rewards = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            boolean winner = memberId.equals(winnerId);
+            rewards.add(RewardOutbox.builder()
+                .gameResultId(result.getGameResultId())
+                .memberId(memberId)
+                .exp(winner ? WIN_EXP : DEFAULT_EXP)
+                .point(winner ? WIN_POINT : DEFAULT_POINT)
+                .build());
+        }
+        rewardOutboxRepository.saveAll(rewards);
+        roomRepository.updateStatus(roomId, RoomStatus.CLOSED);
+        return true;
+    }
+
+    /**
+     * 미처리 보상을 최대 limit 건 읽어 회원별로 합산한 뒤 한 번의 JDBC 배치 UPDATE 로 반영합니다.
+     *
+     * @return 처리한 outbox 행 수
+     */
+    @Transactional
+    public int applyPendingRewards(int limit) {
+        List<RewardOutbox> pending = rewardOutboxRepository.lockPending(limit);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        // 회원 ID 순으로 갱신: 여러 인스턴스가 겹치는 묶음을 동시에 처리해도 같은 순서로 행 잠금을 잡아 교착 상태가 없음
+        Map<Long, long[]> totals = new TreeMap<>();
+        List<Long> ids = new ArrayList<>(pending.size());
+        for (RewardOutbox reward : pending) {
+            long[] total = totals.computeIfAbsent(reward.getMemberId(), id -> new long[2]);
+            total[0] += reward.getExp();
+            total[1] += reward.getPoint();
+            ids.add(reward.getRewardOutboxId());
+        }
+
+        List<Object[]> args = new ArrayList<>(totals.size());
+        totals.forEach((memberId, total) -> args.add(new Object[]{total[0], total[1], memberId}));
+        jdbcTemplate.batchUpdate(APPLY_REWARD_SQL, args);
+        rewardOutboxRepository.markProcessed(ids, LocalDateTime.now());
+        totals.keySet().forEach(
+            memberId -> eventPublisher.publishEvent(new MemberInfoChangedEvent(memberId)));
+        return pending.size();
+    }
+}
@@ -0,0 +1,51 @@
+package com.finbattle.domain.game.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * reward_outbox 를 주기적으로 비워 게임 보상을 회원 exp/point 에 반영
+ * (기동 직후에도 실행되므로 서버가 내려가 있던 동안 쌓인 보상도 처리됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RewardSettlementWorker {
+
+    private static final int BATCH_SIZE = 200;
+    private static final long INTERVAL_MILLIS = 1000;
+
+    private final GameSettlementService gameSettlementService;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::drain, 0, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+    }
+
+    private void drain() {
+        try {
+            int processed;
+            do {
+                processed = gameSettlementService.applyPendingRewards(BATCH_SIZE);
+                if (processed > 0) {
+                    log.info("🎁 게임 보상 {}건 반영", processed);
+                }
+            } while (processed == BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("게임 보상 정산 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.finbattle.domain.member.dto;
+
+/**
+ * 회원 exp/point 잔액 조회용 프로젝션 (Member 엔티티와 연관 컬렉션을 로딩하지 않음)
+ */
+public interface MemberBalance {
+
+    Long getMemberId();
+
+    Long getExp();
+
+    Long getPoint();
+}
@@ -31,4 +31,12 @@ public class MemberExpPointResponseDto {
                 member.getPoint()
         );
     }
+
+    public static MemberExpPointResponseDto from(MemberBalance balance) {
+        return new MemberExpPointResponseDto(
+                balance.getMemberId(),
+                balance.getExp(),
+                balance.getPoint()
+        );
+    }
 }
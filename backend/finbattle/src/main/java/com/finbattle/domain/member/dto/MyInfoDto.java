@@ -3,7 +3,9 @@ package com.finbattle.domain.member.dto;
 import com.finbattle.domain.cat.entity.Cat;
 import com.finbattle.domain.member.model.Member;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -37,9 +39,10 @@ public class MyInfoDto {
     private String main_account;
 
     public static MyInfoDto from(Member member, List<Cat> cats) {
+        // Redis 캐시에 저장되므로 역직렬화 가능한 ArrayList 사용
         List<CatDto> catDtos = cats.stream()
             .map(CatDto::new)
-            .toList();
+            .collect(Collectors.toCollection(ArrayList::new));
         if (member.getFinanceMember() == null) {
             return new MyInfoDto(
                 member.getEmail(),
@@ -0,0 +1,8 @@
+package com.finbattle.domain.member.event;
+
+/**
+ * 내 정보(MyInfo)에 보이는 값(닉네임, 대표 고양이, exp/point, 보유 고양이, 대표 계좌)이 바뀌었을 때 발행
+ */
+public record MemberInfoChangedEvent(Long memberId) {
+
+}
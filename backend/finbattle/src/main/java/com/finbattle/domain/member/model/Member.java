@@ -23,6 +23,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import net.minidev.json.annotate.JsonIgnore;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
@@ -33,6 +34,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
+@DynamicUpdate // 닉네임/대표 고양이 저장이 exp, point 를 이전 값으로 덮어쓰지 않도록 변경된 컬럼만 UPDATE
 public class Member extends BaseEntity {
 
     @Id
@@ -91,19 +93,4 @@ public class Member extends BaseEntity {
     public boolean hasCat(Cat cat) {
         return memberCats.stream().anyMatch(memberCat -> memberCat.getCat().equals(cat));
     }
-
-    public Long increasePoint(Long point) {
-        this.point += point;
-        return this.point;
-    }
-
-    public Long decreasePoint(Long point) {
-        this.point -= point;
-        return this.point;
-    }
-
-    public Long increaseExp(Long exp) {
-        this.exp += exp;
-        return this.exp;
-    }
 }
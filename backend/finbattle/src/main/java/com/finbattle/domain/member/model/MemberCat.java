@@ -9,10 +9,13 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 
 @Entity
-@Table(name = "member_cat")
+@Table(name = "member_cat", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_member_cat_member_cat", columnNames = {"member_id", "cat_id"})
+})
 @Getter
 public class MemberCat {
 
@@ -2,8 +2,10 @@ package com.finbattle.domain.member.repository;
 
 import com.finbattle.domain.cat.entity.Cat;
 import com.finbattle.domain.member.model.MemberCat;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,4 +21,15 @@ public interface MemberCatRepository extends JpaRepository<MemberCat, Long> {
         "WHEN com.finbattle.domain.cat.entity.CatGrade.DEFAULT THEN 4 " +
         "ELSE 5 END, mc.cat.catName")
     List<Cat> findCatsByMemberId(@Param("memberId") Long memberId);
+
+    boolean existsByMemberMemberIdAndCatCatId(Long memberId, Long catId);
+
+    // 이미 보유한 고양이는 (member_id, cat_id) 유일 제약으로 건너뜀. 반환값: 새로 추가된 고양이 수
+    @Modifying
+    @Query(value = """
+            INSERT INTO member_cat (member_id, cat_id)
+            SELECT :memberId, c.cat_id FROM cat c WHERE c.cat_id IN (:catIds)
+            ON CONFLICT (member_id, cat_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIgnoringOwned(@Param("memberId") Long memberId, @Param("catIds") Collection<Long> catIds);
 }
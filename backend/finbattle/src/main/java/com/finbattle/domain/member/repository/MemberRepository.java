@@ -1,8 +1,12 @@
 package com.finbattle.domain.member.repository;
 
+import com.finbattle.domain.member.dto.MemberBalance;
 import com.finbattle.domain.member.model.Member;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +17,20 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByMemberId(Long memberId);
 
     Optional<Member> findByNickname(String nickname);
+
+    @Query("SELECT m.memberId AS memberId, m.exp AS exp, m.point AS point FROM Member m WHERE m.memberId = :memberId")
+    Optional<MemberBalance> findBalanceByMemberId(@Param("memberId") Long memberId);
+
+    // 아래 증감 쿼리는 엔티티를 읽지 않고 한 문장으로 반영하므로 동시 요청에도 갱신이 유실되지 않음
+    @Modifying
+    @Query("UPDATE Member m SET m.exp = m.exp + :exp, m.point = m.point + :point, "
+        + "m.updatedAt = CURRENT_TIMESTAMP WHERE m.memberId = :memberId")
+    int increaseExpAndPoint(@Param("memberId") Long memberId, @Param("exp") long exp,
+        @Param("point") long point);
+
+    // 잔액이 충분할 때만 차감 (0이면 잔액 부족 또는 회원 없음)
+    @Modifying
+    @Query("UPDATE Member m SET m.point = m.point - :amount, m.updatedAt = CURRENT_TIMESTAMP "
+        + "WHERE m.memberId = :memberId AND m.point >= :amount")
+    int decreasePointIfEnough(@Param("memberId") Long memberId, @Param("amount") long amount);
 }
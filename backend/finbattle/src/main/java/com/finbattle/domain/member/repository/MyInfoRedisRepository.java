@@ -0,0 +1,70 @@
+package com.finbattle.domain.member.repository;
+
+import com.finbattle.domain.member.dto.MyInfoDto;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class MyInfoRedisRepository {
+
+    // MyInfoDto 구조가 바뀌면 버전을 올려 이전 형식의 캐시를 읽지 않도록 함
+    private static final String KEY_PREFIX = "member:info:v1:";
+    // 회원별 변경 버전 (무효화마다 1씩 증가)
+    private static final String VERSION_KEY_PREFIX = "member:info:version:";
+    // 변경 버전은 캐시 값보다 오래 유지 (만료 후 0 으로 돌아가도 그 사이 채우기는 모두 끝난 뒤)
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    // 읽기 시작할 때의 버전이 그대로일 때만 저장 (그 사이 무효화됐으면 이전 값을 쓰지 않음)
+    private static final RedisScript<Long> SAVE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('get', KEYS[2]) or '0') == ARGV[1] then "
+            + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 "
+            + "else return 0 end", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private String getKey(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private String getVersionKey(Long memberId) {
+        return VERSION_KEY_PREFIX + memberId;
+    }
+
+    public long findVersion(Long memberId) {
+        Object value = redisTemplate.opsForValue().get(getVersionKey(memberId));
+        return value instanceof Number version ? version.longValue() : 0L;
+    }
+
+    /**
+     * @return 버전이 그대로여서 저장했으면 true
+     */
+    public boolean saveIfVersion(Long memberId, long version, MyInfoDto myInfo, Duration ttl) {
+        Long saved = redisTemplate.execute(SAVE_IF_VERSION_SCRIPT,
+            List.of(getKey(memberId), getVersionKey(memberId)), version, myInfo, ttl.toMillis());
+        return saved != null && saved == 1L;
+    }
+
+    public Optional<MyInfoDto> findByMemberId(Long memberId) {
+        Object value = redisTemplate.opsForValue().get(getKey(memberId));
+        if (value instanceof MyInfoDto myInfo) {
+            return Optional.of(myInfo);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 버전을 올린 뒤 캐시 값을 삭제 (진행 중인 채우기가 이전 값을 다시 저장하지 못하게 함)
+     */
+    public void invalidate(Long memberId) {
+        redisTemplate.opsForValue().increment(getVersionKey(memberId));
+        redisTemplate.expire(getVersionKey(memberId), VERSION_TTL);
+        redisTemplate.delete(getKey(memberId));
+    }
+}
@@ -1,32 +1,39 @@
 package com.finbattle.domain.member.service;
 
-import static com.finbattle.global.common.model.dto.BaseResponseStatus.CAT_ALL_GONE;
 import static com.finbattle.global.common.model.dto.BaseResponseStatus.CAT_MAIN_ALREADY;
 import static com.finbattle.global.common.model.dto.BaseResponseStatus.NOT_HAVE_CAT;
-import static com.finbattle.global.common.model.dto.BaseResponseStatus.POINT_NOT_ENOUGH;
 
 import com.finbattle.domain.cat.entity.Cat;
 import com.finbattle.domain.cat.service.CatService;
 import com.finbattle.domain.member.dto.CatDto;
+import com.finbattle.domain.member.event.MemberInfoChangedEvent;
 import com.finbattle.domain.member.model.Member;
 import com.finbattle.domain.member.repository.MemberCatRepository;
 import com.finbattle.domain.member.repository.MemberRepository;
 import com.finbattle.global.common.exception.exception.BusinessException;
-import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MemberCatService {
 
+    private static final long PICK_COST = 500L;         // 1회 뽑기 비용
+    private static final long DUPLICATE_REFUND = 50L;   // 중복 고양이 보상
+
     private final MemberRepository memberRepository;
     private final MemberCatRepository memberCatRepository;
     private final CatService catService;
+    private final MemberWalletService memberWalletService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<Cat> findCatsByMemberId(Long memberId) {
         return memberCatRepository.findCatsByMemberId(memberId);
@@ -36,7 +43,7 @@ public class MemberCatService {
     public Cat updateMainCat(Member member, Long catId) {
         Cat cat = catService.findByCatId(catId);
 
-        if (!member.hasCat(cat)) {
+        if (!memberCatRepository.existsByMemberMemberIdAndCatCatId(member.getMemberId(), catId)) {
             throw new BusinessException(NOT_HAVE_CAT);
         }
         if (member.getMainCat().equals(cat.getCatName())) {
@@ -44,114 +51,37 @@ public class MemberCatService {
         }
         member.setMainCat(cat.getCatName());
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberInfoChangedEvent(member.getMemberId()));
         return cat;
     }
 
-    // 고양이 뽑기
+    // 고양이 뽑기 (포인트 차감, 고양이 획득, 중복 보상이 한 트랜잭션)
+    @Transactional
     public List<CatDto> pickCat(Member member, Integer count) {
-        if (member.getPoint() < 500L * count) {
-            throw new BusinessException(POINT_NOT_ENOUGH);
-        }
-        member.decreasePoint(500L * count);
-        List<Cat> pickedCats = pickCatList(count);
+        Long memberId = member.getMemberId();
+        memberWalletService.spendPoint(memberId, PICK_COST * count);
+        List<Cat> pickedCats = catService.drawCats(count);
         log.warn("고양이 뽑기 성공! 뽑은 고양이 수: {}", pickedCats.size());
+
+        // 보유하지 않은 고양이만 한 번의 INSERT 로 추가하고, 추가되지 않은 뽑기 수만큼 중복 보상
+        // (동시에 같은 고양이를 뽑아도 유일 제약으로 한 번만 추가되고 나머지는 보상으로 처리됨)
+        Set<Long> pickedCatIds = new HashSet<>();
         for (Cat pickedCat : pickedCats) {
-            if (!member.hasCat(pickedCat)) {
-                member.acquireCat(pickedCat);
-                log.info("{} 유저가 {}번 고양이를 획득!!", member.getNickname(), pickedCat.getCatId());
-            } else {
-                member.increasePoint(50L);
-                log.info("{} 유저의 {}번 고양이 중복 보유로 50포인트 증가", member.getNickname(),
-                    pickedCat.getCatId());
-            }
+            pickedCatIds.add(pickedCat.getCatId());
+        }
+        int acquired = memberCatRepository.insertIgnoringOwned(memberId, pickedCatIds);
+        eventPublisher.publishEvent(new MemberInfoChangedEvent(memberId)); // 보유 고양이 목록 변경
+        long duplicates = pickedCats.size() - acquired;
+        if (duplicates > 0) {
+            memberWalletService.addPoint(memberId, DUPLICATE_REFUND * duplicates);
         }
+        log.info("{} 유저 고양이 뽑기: 신규 {}마리, 중복 {}회 ({}포인트 보상)", member.getNickname(),
+            acquired, duplicates, DUPLICATE_REFUND * duplicates);
+
         List<CatDto> catDtos = new ArrayList<>();
         for (Cat pickedCat : pickedCats) {
             catDtos.add(new CatDto(pickedCat));
         }
-        memberRepository.save(member);
         return catDtos;
     }
-
-    private List<Cat> pickCatList(Integer count) {
-        List<Cat> cats = catService.findAll();
-        if (cats.isEmpty()) {
-            throw new BusinessException(CAT_ALL_GONE);
-        }
-
-        // 등급별 전체 확률 (개수에 따라 각 개별 확률이 동적으로 조정됨)
-        double legendaryTotalRate = 0.01; // LEGENDARY 총 등장 확률 = 1%
-        double epicTotalRate = 0.10;       // EPIC 총 등장 확률 = 10%
-
-        // 등급별 고양이 분류
-        List<Cat> legendaryCats = new ArrayList<>();
-        List<Cat> epicCats = new ArrayList<>();
-        List<Cat> commonCats = new ArrayList<>();
-
-        for (Cat cat : cats) {
-            switch (cat.getGrade()) {
-                case LEGENDARY -> legendaryCats.add(cat);
-                case EPIC -> epicCats.add(cat);
-                case COMMON -> commonCats.add(cat);
-            }
-        }
-
-        int totalLegendary = legendaryCats.size();
-        int totalEpic = epicCats.size();
-        int totalCommon = commonCats.size();
-
-        // 개수 기반 확률 계산
-        double perLegendaryRate = (totalLegendary > 0) ? legendaryTotalRate / totalLegendary : 0.0;
-        double perEpicRate = (totalEpic > 0) ? epicTotalRate / totalEpic : 0.0;
-        double commonTotalRate = 1.0 - (legendaryTotalRate + epicTotalRate); // 나머지 확률 (COMMON)
-        double perCommonRate = (totalCommon > 0) ? commonTotalRate / totalCommon : 0.0;
-
-        // 확률 리스트 생성
-        List<WeightedCat> weightedCats = new ArrayList<>();
-        for (Cat cat : legendaryCats) {
-            weightedCats.add(new WeightedCat(cat, perLegendaryRate));
-        }
-        for (Cat cat : epicCats) {
-            weightedCats.add(new WeightedCat(cat, perEpicRate));
-        }
-        for (Cat cat : commonCats) {
-            weightedCats.add(new WeightedCat(cat, perCommonRate));
-        }
-
-        // 랜덤 선택
-        List<Cat> returnCatList = new ArrayList<>();
-        SecureRandom random = new SecureRandom();
-
-        for (int i = 0; i < count; i++) {
-            double rand = random.nextDouble();
-            double cumulativeProbability = 0.0;
-
-            for (WeightedCat wc : weightedCats) {
-                cumulativeProbability += wc.weight;
-                if (rand <= cumulativeProbability) {
-                    returnCatList.add(wc.cat);
-                    break;
-                }
-            }
-        }
-
-        // 보정 로직 (아무것도 선택되지 않을 경우 대비)
-        if (returnCatList.isEmpty()) {
-            returnCatList.add(catService.findByCatName("classic"));
-        }
-
-        return returnCatList;
-    }
-
-    // 가중치 정보를 포함한 고양이 객체
-    private static class WeightedCat {
-
-        Cat cat;
-        double weight;
-
-        WeightedCat(Cat cat, double weight) {
-            this.cat = cat;
-            this.weight = weight;
-        }
-    }
 }
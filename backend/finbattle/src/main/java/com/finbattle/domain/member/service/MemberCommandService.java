@@ -1,8 +1,10 @@
 package com.finbattle.domain.member.service;
 
+import com.finbattle.domain.member.event.MemberInfoChangedEvent;
 import com.finbattle.domain.member.model.Member;
 import com.finbattle.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -10,16 +12,19 @@ import org.springframework.stereotype.Service;
 public class MemberCommandService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 닉네임 변경
     public void updateNickname(Member member, String nickname) {
         member.setNickname(nickname);
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberInfoChangedEvent(member.getMemberId()));
     }
     
     // 회원탈퇴
     public void deleteMember(Member member) {
         member.changeStatusToInActive();
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberInfoChangedEvent(member.getMemberId()));
     }
 }
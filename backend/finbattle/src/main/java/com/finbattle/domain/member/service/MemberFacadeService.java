@@ -7,7 +7,6 @@ import com.finbattle.domain.member.dto.MyInfoDto;
 import com.finbattle.domain.member.model.Member;
 import java.util.List;
 
-import com.finbattle.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,15 +19,18 @@ public class MemberFacadeService implements MemberService {
     private final MemberQueryService memberQueryService;
     private final MemberCommandService memberCommandService;
     private final MemberCatService memberCatService;
-    private final MemberRepository memberRepository;
+    private final MemberWalletService memberWalletService;
+    private final MyInfoCache myInfoCache;
 
 
     // 특정 회원 조회
     @Override
     public MyInfoDto getMyInfo(Long memberId) {
-        Member member = memberQueryService.findByMemberId(memberId);
-        List<Cat> cats = memberCatService.findCatsByMemberId(memberId);
-        return MyInfoDto.from(member, cats);
+        return myInfoCache.getOrLoad(memberId, () -> {
+            Member member = memberQueryService.findByMemberId(memberId);
+            List<Cat> cats = memberCatService.findCatsByMemberId(memberId); // 등급, 이름순 정렬
+            return MyInfoDto.from(member, cats);
+        });
     }
 
     @Override
@@ -67,21 +69,10 @@ public class MemberFacadeService implements MemberService {
      */
     @Override
     public MemberExpPointResponseDto updateExpAndPoint(Long memberId, Long exp, Long point) {
-        // 1) 멤버 조회
-        Member member = memberQueryService.findByMemberId(memberId);
-
-        // 2) exp, point가 null/0보다 큰 경우만 증가
-        if (exp != null && exp > 0) {
-            member.increaseExp(exp);
-        }
-        if (point != null && point > 0) {
-            member.increasePoint(point);
-        }
-
-        // 3) DB 저장
-        memberRepository.save(member);
-
-        // 4) userId, exp, point만 담아 반환
-        return MemberExpPointResponseDto.from(member);
+        // exp, point가 null/0보다 큰 경우만 증가 (엔티티를 읽지 않고 원자적 UPDATE 로 반영)
+        long expDelta = (exp != null && exp > 0) ? exp : 0L;
+        long pointDelta = (point != null && point > 0) ? point : 0L;
+        return MemberExpPointResponseDto.from(
+            memberWalletService.addExpAndPoint(memberId, expDelta, pointDelta));
     }
 }
@@ -0,0 +1,64 @@
+package com.finbattle.domain.member.service;
+
+import static com.finbattle.global.common.model.dto.BaseResponseStatus.MEMBER_NOT_FOUND;
+import static com.finbattle.global.common.model.dto.BaseResponseStatus.POINT_NOT_ENOUGH;
+
+import com.finbattle.domain.member.dto.MemberBalance;
+import com.finbattle.domain.member.event.MemberInfoChangedEvent;
+import com.finbattle.domain.member.repository.MemberRepository;
+import com.finbattle.global.common.exception.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원 exp/point 증감 전용 서비스
+ * <p>
+ * Member 엔티티를 읽어 저장하는 대신 조건부 UPDATE 한 문장으로 반영하고, 같은 트랜잭션에서 변경된 잔액을 다시 읽어
+ * 반환합니다. UPDATE 가 행 잠금을 잡고 있으므로 반환되는 잔액은 이 요청이 반영된 직후의 값입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberWalletService {
+
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public MemberBalance addExpAndPoint(Long memberId, long exp, long point) {
+        if (memberRepository.increaseExpAndPoint(memberId, exp, point) == 0) {
+            throw new BusinessException(MEMBER_NOT_FOUND);
+        }
+        eventPublisher.publishEvent(new MemberInfoChangedEvent(memberId));
+        return getBalance(memberId);
+    }
+
+    @Transactional
+    public MemberBalance addPoint(Long memberId, long point) {
+        return addExpAndPoint(memberId, 0L, point);
+    }
+
+    /**
+     * 잔액이 amount 이상일 때만 차감합니다.
+     *
+     * @throws BusinessException 잔액 부족(POINT_NOT_ENOUGH) 또는 회원 없음(MEMBER_NOT_FOUND)
+     */
+    @Transactional
+    public MemberBalance spendPoint(Long memberId, long amount) {
+        if (memberRepository.decreasePointIfEnough(memberId, amount) == 0) {
+            getBalance(memberId); // 회원이 없으면 MEMBER_NOT_FOUND
+            throw new BusinessException(POINT_NOT_ENOUGH);
+        }
+        eventPublisher.publishEvent(new MemberInfoChangedEvent(memberId));
+        return getBalance(memberId);
+    }
+
+    @Transactional(readOnly = true)
+    public MemberBalance getBalance(Long memberId) {
+        return memberRepository.findBalanceByMemberId(memberId)
+            .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
+    }
+}
@@ -0,0 +1,116 @@
+package com.finbattle.domain.member.service;
+
+import com.finbattle.domain.member.dto.MyInfoDto;
+import com.finbattle.domain.member.event.MemberInfoChangedEvent;
+import com.finbattle.domain.member.repository.MyInfoRedisRepository;
+import com.finbattle.global.common.redis.RedisPublisher;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 내 정보(MyInfo) 조회 캐시 (L1: 인스턴스 로컬 LRU, L2: Redis)
+ * <p>
+ * 캐시 값은 보유 고양이 목록까지 정렬된 완성 DTO 이므로 적중 시 DB 조회가 없습니다. 회원 정보가 바뀌면
+ * {@link MemberInfoChangedEvent}를 커밋 이후에 받아 회원별 버전을 올리고 Redis 값을 지운 뒤, {@value #INVALIDATE_CHANNEL}
+ * 채널로 모든 인스턴스의 L1 을 비웁니다. 캐시를 채울 때는 DB 를 읽기 전의 버전이 그대로일 때만 저장하므로, 변경 전에 읽은
+ * 값이 무효화 뒤에 저장되어 남는 일이 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MyInfoCache {
+
+    public static final String INVALIDATE_CHANNEL = "member-info:invalidate";
+
+    private static final int L1_MAX_SIZE = 10_000;
+    private static final Duration L1_TTL = Duration.ofSeconds(30);
+    private static final Duration L2_TTL = Duration.ofMinutes(10);
+
+    private final MyInfoRedisRepository myInfoRedisRepository;
+    private final RedisPublisher redisPublisher;
+
+    private final Map<Long, CachedInfo> localCache = Collections.synchronizedMap(
+        new LinkedHashMap<Long, CachedInfo>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedInfo> eldest) {
+                return size() > L1_MAX_SIZE;
+            }
+        });
+
+    public MyInfoDto getOrLoad(Long memberId, Supplier<MyInfoDto> loader) {
+        CachedInfo local = localCache.get(memberId);
+        if (local != null && !local.isExpired()) {
+            return local.myInfo();
+        }
+
+        Optional<MyInfoDto> remote = Optional.empty();
+        Long version = null;
+        try {
+            remote = myInfoRedisRepository.findByMemberId(memberId);
+            if (remote.isEmpty()) {
+                // DB 를 읽기 전의 버전: 읽는 사이 변경이 커밋되면 버전이 올라 저장하지 않음
+                version = myInfoRedisRepository.findVersion(memberId);
+            }
+        } catch (Exception e) {
+            log.warn("내 정보 캐시 Redis 조회 실패: {}", e.getMessage());
+        }
+        if (remote.isPresent()) {
+            putLocal(memberId, remote.get());
+            return remote.get();
+        }
+
+        MyInfoDto loaded = loader.get();
+        boolean saved = false;
+        if (version != null) {
+            try {
+                saved = myInfoRedisRepository.saveIfVersion(memberId, version, loaded, L2_TTL);
+            } catch (Exception e) {
+                log.warn("내 정보 캐시 Redis 저장 실패: {}", e.getMessage());
+            }
+        }
+        // 저장하지 못했으면 이미 지난 값일 수 있으므로 L1 에도 넣지 않음
+        if (saved) {
+            putLocal(memberId, loaded);
+        }
+        return loaded;
+    }
+
+    private void putLocal(Long memberId, MyInfoDto myInfo) {
+        localCache.put(memberId, new CachedInfo(myInfo, System.currentTimeMillis() + L1_TTL.toMillis()));
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트도 즉시 처리
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberInfoChanged(MemberInfoChangedEvent event) {
+        Long memberId = event.memberId();
+        localCache.remove(memberId);
+        try {
+            myInfoRedisRepository.invalidate(memberId);
+            redisPublisher.publish(INVALIDATE_CHANNEL, memberId);
+        } catch (Exception e) {
+            log.warn("내 정보 캐시 무효화 실패: memberId={}, {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 무효화 메시지를 받았을 때 L1 에서만 제거
+     */
+    public void evictLocal(Long memberId) {
+        localCache.remove(memberId);
+    }
+
+    private record CachedInfo(MyInfoDto myInfo, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -1,18 +1,23 @@
 package com.finbattle.domain.quiz.controller;
 
+import com.finbattle.domain.quiz.dto.MemberQuizStatsDto;
 import com.finbattle.domain.quiz.dto.QuizLogDto;
 import com.finbattle.domain.quiz.dto.WrongQuizLogDto;
 import com.finbattle.domain.quiz.service.QuizService;
+import com.finbattle.domain.quiz.service.QuizStatsService;
 import com.finbattle.global.common.Util.AuthenticationUtil;
 import com.finbattle.global.common.model.dto.BaseResponse;
 import com.finbattle.global.common.model.dto.BaseResponseStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/quiz")
@@ -21,17 +26,22 @@ import java.util.List;
 public class QuizController {
 
     private final QuizService quizService;
+    private final QuizStatsService quizStatsService;
     private final AuthenticationUtil authenticationUtil;
 
     @Operation(
             summary = "틀린 퀴즈 목록 조회",
-            description = "현재 로그인한 사용자의 최근 틀린 퀴즈 로그 목록을 반환합니다."
+            description = "현재 로그인한 사용자의 최근 틀린 퀴즈 로그 목록을 최신순으로 반환합니다. "
+                    + "size 를 주면 최대 100건씩 나눠 반환하며, 다음 페이지는 마지막 항목의 createdAt, quizLogId 를 lastCreatedAt, lastLogId 로 전달합니다. 페이지 파라미터가 없으면 전체를 반환합니다."
     )
     @GetMapping("/wrong")
-    public ResponseEntity<BaseResponse<List<WrongQuizLogDto>>> getWrongQuizLogs() {
+    public ResponseEntity<BaseResponse<List<WrongQuizLogDto>>> getWrongQuizLogs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+            @RequestParam(required = false) Long lastLogId,
+            @RequestParam(required = false) Integer size) {
         try {
             Long memberId = authenticationUtil.getMemberId();
-            List<WrongQuizLogDto> wrongLogs = quizService.getWrongQuizLogsByMember(memberId);
+            List<WrongQuizLogDto> wrongLogs = quizService.getWrongQuizLogsByMember(memberId, lastCreatedAt, lastLogId, size);
             if (wrongLogs.isEmpty()) {
                 return ResponseEntity.status(BaseResponseStatus.WRONG_QUIZ_LOG_NOT_FOUND.getHttpStatus())
                         .body(new BaseResponse<>(BaseResponseStatus.WRONG_QUIZ_LOG_NOT_FOUND));
@@ -55,4 +65,23 @@ public class QuizController {
         List<QuizLogDto> logDtos = quizService.getQuizLogsByQuizId(quizId);
         return ResponseEntity.ok(new BaseResponse<>(logDtos));
     }
+
+    @Operation(
+            summary = "내 퀴즈 통계 조회",
+            description = "현재 로그인한 사용자의 전체/주제별/유형별 정답률과 연속 정답 수를 반환합니다."
+    )
+    @GetMapping("/stats")
+    public ResponseEntity<BaseResponse<MemberQuizStatsDto>> getMyQuizStats() {
+        Long memberId = authenticationUtil.getMemberId();
+        return ResponseEntity.ok(new BaseResponse<>(quizStatsService.getMemberStats(memberId)));
+    }
+
+    @Operation(
+            summary = "퀴즈별 정답률 조회",
+            description = "지정된 quiz_id 목록의 정답률(0~1)을 반환합니다. 풀이 기록이 없는 퀴즈는 포함되지 않습니다."
+    )
+    @GetMapping("/stats/difficulty")
+    public ResponseEntity<BaseResponse<Map<Long, Double>>> getCorrectRatios(@RequestParam List<Long> quizIds) {
+        return ResponseEntity.ok(new BaseResponse<>(quizStatsService.getCorrectRatios(quizIds)));
+    }
 }
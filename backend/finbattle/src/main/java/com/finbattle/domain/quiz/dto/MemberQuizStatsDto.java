@@ -0,0 +1,76 @@
+package com.finbattle.domain.quiz.dto;
+
+import com.finbattle.domain.quiz.model.MemberQuizStat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 퀴즈 통계 응답 DTO (전체/주제별/유형별 정답률, 연속 정답)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberQuizStatsDto {
+
+    public static final String TOTAL_COUNT = "total";
+    public static final String CORRECT_COUNT = "correct";
+    public static final String CURRENT_STREAK = "streak";
+    public static final String BEST_STREAK = "bestStreak";
+
+    private StatDto total;
+    private int currentStreak;
+    private int bestStreak;
+    private Map<String, StatDto> bySubject;   // SubjectType -> 통계
+    private Map<String, StatDto> byMode;      // QuizMode -> 통계
+
+    /**
+     * @param stats "{statKey}|{metric}" -> 값 (Redis 캐시 형식)
+     */
+    public static MemberQuizStatsDto from(Map<String, Integer> stats) {
+        Map<String, StatDto> bySubject = new LinkedHashMap<>();
+        Map<String, StatDto> byMode = new LinkedHashMap<>();
+        stats.keySet().stream()
+            .map(field -> field.substring(0, field.indexOf('|')))
+            .distinct()
+            .forEach(statKey -> {
+                StatDto stat = StatDto.of(stats, statKey);
+                if (statKey.startsWith(MemberQuizStat.SUBJECT_PREFIX)) {
+                    bySubject.put(statKey.substring(MemberQuizStat.SUBJECT_PREFIX.length()), stat);
+                } else if (statKey.startsWith(MemberQuizStat.MODE_PREFIX)) {
+                    byMode.put(statKey.substring(MemberQuizStat.MODE_PREFIX.length()), stat);
+                }
+            });
+        return new MemberQuizStatsDto(
+            StatDto.of(stats, MemberQuizStat.TOTAL),
+            metric(stats, MemberQuizStat.TOTAL, CURRENT_STREAK),
+            metric(stats, MemberQuizStat.TOTAL, BEST_STREAK),
+            bySubject,
+            byMode
+        );
+    }
+
+    public static String field(String statKey, String metric) {
+        return statKey + "|" + metric;
+    }
+
+    private static int metric(Map<String, Integer> stats, String statKey, String metric) {
+        return stats.getOrDefault(field(statKey, metric), 0);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StatDto {
+
+        private int totalCount;
+        private int correctCount;
+        private double accuracy;
+
+        static StatDto of(Map<String, Integer> stats, String statKey) {
+            int totalCount = metric(stats, statKey, TOTAL_COUNT);
+            int correctCount = metric(stats, statKey, CORRECT_COUNT);
+            return new StatDto(totalCount, correctCount,
+                totalCount == 0 ? 0.0 : (double) correctCount / totalCount);
+        }
+    }
+}
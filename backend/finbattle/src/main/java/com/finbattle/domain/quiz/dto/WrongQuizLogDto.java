@@ -16,6 +16,7 @@ import lombok.Setter;
 @Builder
 public class WrongQuizLogDto {
 
+    private Long quizLogId;            // 다음 페이지 조회 커서
     private Long quizId;
     private QuizMode quizMode;         // 문제 유형 (서술형/객관식 등)
     private SubjectType quizSubject;   // 문제 주제 (정책/금융지식 등)
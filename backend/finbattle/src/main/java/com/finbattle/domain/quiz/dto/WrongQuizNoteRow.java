@@ -0,0 +1,27 @@
+package com.finbattle.domain.quiz.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * quiz_log + quiz + 유형별 서브 테이블 + 정답 보기를 한 번에 조회하는 오답 노트 projection
+ */
+public interface WrongQuizNoteRow {
+
+    Long getQuizLogId();
+
+    Long getQuizId();
+
+    String getQuizMode();
+
+    String getSubjectType();
+
+    String getQuestion();
+
+    String getShortAnswer();     // 단답형 정답
+
+    String getCorrectOption();   // 객관식 정답 보기
+
+    String getUserAnswer();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,12 @@
+package com.finbattle.domain.quiz.event;
+
+import com.finbattle.domain.quiz.model.QuizMode;
+import com.finbattle.domain.quiz.model.SubjectType;
+
+/**
+ * 게임 중 퀴즈 답안이 채점되었을 때 발행되는 이벤트 (통계 갱신용)
+ */
+public record QuizAnsweredEvent(Long memberId, Long quizId, QuizMode quizMode,
+                                SubjectType subjectType, boolean correct) {
+
+}
@@ -0,0 +1,45 @@
+package com.finbattle.domain.quiz.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 퀴즈 통계 (quiz_log 집계 결과를 답안마다 증분 갱신)
+ * stat_key: TOTAL, SUBJECT:{SubjectType}, MODE:{QuizMode}
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@IdClass(MemberQuizStatId.class)
+@Table(name = "member_quiz_stat")
+public class MemberQuizStat {
+
+    public static final String TOTAL = "TOTAL";
+    public static final String SUBJECT_PREFIX = "SUBJECT:";
+    public static final String MODE_PREFIX = "MODE:";
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Id
+    @Column(name = "stat_key", length = 40)
+    private String statKey;
+
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    @Column(name = "correct_count", nullable = false)
+    private int correctCount;
+
+    @Column(name = "current_streak", nullable = false)
+    private int currentStreak;
+
+    @Column(name = "best_streak", nullable = false)
+    private int bestStreak;
+}
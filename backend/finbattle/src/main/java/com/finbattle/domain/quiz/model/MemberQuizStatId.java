@@ -0,0 +1,17 @@
+package com.finbattle.domain.quiz.model;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class MemberQuizStatId implements Serializable {
+
+    private Long memberId;
+    private String statKey;
+}
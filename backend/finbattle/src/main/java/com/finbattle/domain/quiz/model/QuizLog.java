@@ -11,11 +11,17 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "quiz_log")
+@Table(name = "quiz_log", indexes = {
+    // 회원별 조회, 오답 노트 키셋 페이지 (member_id, created_at desc, quiz_log_id desc)
+    @Index(name = "idx_quiz_log_member_created", columnList = "member_id, created_at DESC, quiz_log_id DESC"),
+    // 퀴즈별 조회, 퀴즈+회원 최신 답안 조회
+    @Index(name = "idx_quiz_log_quiz_member_created", columnList = "quiz_id, member_id, created_at DESC")
+})
 public class QuizLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_log_seq")
+    @SequenceGenerator(name = "quiz_log_seq", sequenceName = "quiz_log_seq", allocationSize = 50)
     @Column(name = "quiz_log_id")
     private Long quizLogId;
 
@@ -36,6 +42,9 @@ public class QuizLog {
 
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        // 버퍼를 거쳐 저장되는 경우 답안 시각이 미리 채워져 있음
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 }
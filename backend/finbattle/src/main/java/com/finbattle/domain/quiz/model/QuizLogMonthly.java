@@ -0,0 +1,36 @@
+package com.finbattle.domain.quiz.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보존 기간이 지나 삭제된 quiz_log 의 회원별 월간 요약
+ * month: 해당 월의 1일
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@IdClass(QuizLogMonthlyId.class)
+@Table(name = "quiz_log_monthly")
+public class QuizLogMonthly {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Id
+    @Column(name = "month")
+    private LocalDate month;
+
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    @Column(name = "correct_count", nullable = false)
+    private int correctCount;
+}
@@ -0,0 +1,18 @@
+package com.finbattle.domain.quiz.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class QuizLogMonthlyId implements Serializable {
+
+    private Long memberId;
+    private LocalDate month;
+}
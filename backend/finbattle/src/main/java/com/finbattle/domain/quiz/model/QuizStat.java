@@ -0,0 +1,32 @@
+package com.finbattle.domain.quiz.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 퀴즈별 풀이 통계 (정답률 = 난이도 지표)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "quiz_stat")
+public class QuizStat {
+
+    @Id
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    @Column(name = "correct_count", nullable = false)
+    private int correctCount;
+
+    public double getCorrectRatio() {
+        return totalCount == 0 ? 0.0 : (double) correctCount / totalCount;
+    }
+}
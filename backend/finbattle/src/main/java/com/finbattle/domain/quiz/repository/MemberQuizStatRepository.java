@@ -0,0 +1,71 @@
+package com.finbattle.domain.quiz.repository;
+
+import com.finbattle.domain.quiz.model.MemberQuizStat;
+import com.finbattle.domain.quiz.model.MemberQuizStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface MemberQuizStatRepository extends JpaRepository<MemberQuizStat, MemberQuizStatId> {
+
+    List<MemberQuizStat> findByMemberId(Long memberId);
+
+    // 답안 1건 반영: 행이 없으면 생성, 있으면 원자적으로 누적 (정답이면 연속 정답 +1, 오답이면 0)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO member_quiz_stat (member_id, stat_key, total_count, correct_count, current_streak, best_streak)
+            VALUES (:memberId, :statKey, 1, :correct, :correct, :correct)
+            ON CONFLICT (member_id, stat_key) DO UPDATE SET
+                total_count = member_quiz_stat.total_count + 1,
+                correct_count = member_quiz_stat.correct_count + EXCLUDED.correct_count,
+                current_streak = CASE WHEN EXCLUDED.correct_count = 1
+                                      THEN member_quiz_stat.current_streak + 1 ELSE 0 END,
+                best_streak = GREATEST(member_quiz_stat.best_streak,
+                                       CASE WHEN EXCLUDED.correct_count = 1
+                                            THEN member_quiz_stat.current_streak + 1 ELSE 0 END)
+            """, nativeQuery = true)
+    void increment(@Param("memberId") Long memberId, @Param("statKey") String statKey,
+                   @Param("correct") int correct);
+
+    // 최초 배포 시 기존 quiz_log 로 통계 생성 (이미 있는 행은 건드리지 않음)
+    // 연속 정답: 답안 순서대로 오답 수를 누적한 값이 같은 구간이 한 번의 연속 정답 구간
+    // 객관식에서 번호가 아닌 입력은 채팅이므로 제외
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH answers AS (
+                SELECT l.member_id, k.stat_key, l.is_correct, l.created_at, l.quiz_log_id
+                FROM quiz_log l
+                JOIN quiz q ON q.quiz_id = l.quiz_id
+                CROSS JOIN LATERAL (VALUES ('TOTAL'), ('SUBJECT:' || q.subject_type),
+                                           ('MODE:' || q.quiz_mode)) AS k(stat_key)
+                WHERE k.stat_key IS NOT NULL
+                  AND (q.quiz_mode <> 'MULTIPLE_CHOICE' OR l.user_answer ~ '^[1-4]$')
+            ),
+            runs AS (
+                SELECT member_id, stat_key, is_correct,
+                       SUM(CASE WHEN is_correct THEN 0 ELSE 1 END)
+                           OVER (PARTITION BY member_id, stat_key
+                                 ORDER BY created_at, quiz_log_id) AS run
+                FROM answers
+            ),
+            streaks AS (
+                SELECT member_id, stat_key, run, COUNT(*) AS total,
+                       COUNT(*) FILTER (WHERE is_correct) AS streak
+                FROM runs
+                GROUP BY member_id, stat_key, run
+            )
+            INSERT INTO member_quiz_stat (member_id, stat_key, total_count, correct_count, current_streak, best_streak)
+            SELECT member_id, stat_key, SUM(total), SUM(streak),
+                   (ARRAY_AGG(streak ORDER BY run DESC))[1], MAX(streak)
+            FROM streaks
+            GROUP BY member_id, stat_key
+            ON CONFLICT (member_id, stat_key) DO NOTHING
+            """, nativeQuery = true)
+    int backfillFromQuizLog();
+}
@@ -0,0 +1,41 @@
+package com.finbattle.domain.quiz.repository;
+
+import com.finbattle.domain.quiz.model.QuizLogMonthly;
+import com.finbattle.domain.quiz.model.QuizLogMonthlyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface QuizLogMonthlyRepository extends JpaRepository<QuizLogMonthly, QuizLogMonthlyId> {
+
+    List<QuizLogMonthly> findByMemberIdOrderByMonthDesc(Long memberId);
+
+    // 기준 시각 이전 quiz_log 를 최대 limit 건 삭제하면서 같은 문장에서 월간 요약에 누적 (삭제와 집계가 원자적)
+    // 반환값: 갱신된 요약 행 수 (0이면 더 이상 삭제할 로그가 없음)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH moved AS (
+                DELETE FROM quiz_log
+                WHERE quiz_log_id IN (
+                    SELECT quiz_log_id FROM quiz_log
+                    WHERE created_at < :cutoff
+                    LIMIT :limit)
+                RETURNING member_id, created_at, is_correct
+            )
+            INSERT INTO quiz_log_monthly (member_id, month, total_count, correct_count)
+            SELECT member_id, CAST(date_trunc('month', created_at) AS date),
+                   COUNT(*), COUNT(*) FILTER (WHERE is_correct)
+            FROM moved
+            GROUP BY member_id, CAST(date_trunc('month', created_at) AS date)
+            ON CONFLICT (member_id, month) DO UPDATE SET
+                total_count = quiz_log_monthly.total_count + EXCLUDED.total_count,
+                correct_count = quiz_log_monthly.correct_count + EXCLUDED.correct_count
+            """, nativeQuery = true)
+    int rollupAndDeleteBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -1,13 +1,36 @@
 package com.finbattle.domain.quiz.repository;
 
+import com.finbattle.domain.quiz.dto.WrongQuizNoteRow;
 import com.finbattle.domain.quiz.model.QuizLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface QuizLogRepository extends JpaRepository<QuizLog, Long> {
 
+    int DEFAULT_WRONG_NOTE_PAGE_SIZE = 100;
+
+    String WRONG_NOTE_SELECT = """
+            SELECT l.quiz_log_id AS quizLogId, q.quiz_id AS quizId, q.quiz_mode AS quizMode,
+                   q.subject_type AS subjectType,
+                   COALESCE(sa.short_question, mc.multiple_question, e.essay_question) AS question,
+                   sa.short_answer AS shortAnswer,
+                   (SELECT o.option_text FROM quiz_option o
+                     WHERE o.quiz_id = l.quiz_id AND o.is_correct = true
+                     ORDER BY o.quiz_option_id LIMIT 1) AS correctOption,
+                   l.user_answer AS userAnswer, l.created_at AS createdAt
+            FROM quiz_log l
+            JOIN quiz q ON q.quiz_id = l.quiz_id
+            LEFT JOIN short_answer_quiz sa ON sa.quiz_id = q.quiz_id
+            LEFT JOIN essay_quiz e ON e.quiz_id = q.quiz_id
+            LEFT JOIN multiple_choice_quiz mc ON mc.quiz_id = q.quiz_id
+            WHERE l.member_id = :memberId AND l.is_correct = false
+            """;
+
     List<QuizLog> findByMemberId(Long memberId);
 
     List<QuizLog> findByQuizId(Long quizId);
@@ -15,4 +38,45 @@ public interface QuizLogRepository extends JpaRepository<QuizLog, Long> {
     Optional<QuizLog> findTopByQuizIdAndMemberIdOrderByCreatedAtDesc(Long quizId, Long memberId); // 🔥 추가
 
     List<QuizLog> findByMemberIdAndIsCorrectFalse(Long memberId);
+
+    // 오답 노트 전체 (최신순, 페이지 파라미터 없이 호출하는 기존 클라이언트용)
+    @Query(value = WRONG_NOTE_SELECT + """
+            ORDER BY l.created_at DESC, l.quiz_log_id DESC
+            """, nativeQuery = true)
+    List<WrongQuizNoteRow> findAllWrongNotes(@Param("memberId") Long memberId);
+
+    // 오답 노트 첫 페이지 (최신순)
+    @Query(value = WRONG_NOTE_SELECT + """
+            ORDER BY l.created_at DESC, l.quiz_log_id DESC
+            LIMIT :size
+            """, nativeQuery = true)
+    List<WrongQuizNoteRow> findWrongNotes(@Param("memberId") Long memberId, @Param("size") int size);
+
+    // 오답 노트 다음 페이지: 직전 페이지 마지막 항목(createdAt, quizLogId) 이후부터 (keyset)
+    @Query(value = WRONG_NOTE_SELECT + """
+              AND (l.created_at < :lastCreatedAt
+                   OR (l.created_at = :lastCreatedAt AND l.quiz_log_id < :lastLogId))
+            ORDER BY l.created_at DESC, l.quiz_log_id DESC
+            LIMIT :size
+            """, nativeQuery = true)
+    List<WrongQuizNoteRow> findWrongNotesAfter(@Param("memberId") Long memberId,
+                                               @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+                                               @Param("lastLogId") Long lastLogId,
+                                               @Param("size") int size);
+
+    /**
+     * 커서도 크기도 없으면 전체, 그 밖에는 size 건씩 keyset 페이지로 조회
+     */
+    default List<WrongQuizNoteRow> findWrongNotePage(Long memberId, LocalDateTime lastCreatedAt,
+                                                     Long lastLogId, Integer size) {
+        boolean firstPage = lastCreatedAt == null || lastLogId == null;
+        if (firstPage && size == null) {
+            return findAllWrongNotes(memberId);
+        }
+        int pageSize = size == null ? DEFAULT_WRONG_NOTE_PAGE_SIZE : size;
+        if (firstPage) {
+            return findWrongNotes(memberId, pageSize);
+        }
+        return findWrongNotesAfter(memberId, lastCreatedAt, lastLogId, pageSize);
+    }
 }
@@ -0,0 +1,36 @@
+package com.finbattle.domain.quiz.repository;
+
+import com.finbattle.domain.quiz.model.QuizStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface QuizStatRepository extends JpaRepository<QuizStat, Long> {
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO quiz_stat (quiz_id, total_count, correct_count)
+            VALUES (:quizId, 1, :correct)
+            ON CONFLICT (quiz_id) DO UPDATE SET
+                total_count = quiz_stat.total_count + 1,
+                correct_count = quiz_stat.correct_count + EXCLUDED.correct_count
+            """, nativeQuery = true)
+    void increment(@Param("quizId") Long quizId, @Param("correct") int correct);
+
+    // 최초 배포 시 기존 quiz_log 로 통계 생성 (이미 있는 행은 건드리지 않음, 객관식 채팅 입력 제외)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO quiz_stat (quiz_id, total_count, correct_count)
+            SELECT l.quiz_id, COUNT(*), COUNT(*) FILTER (WHERE l.is_correct)
+            FROM quiz_log l
+            JOIN quiz q ON q.quiz_id = l.quiz_id
+            WHERE q.quiz_mode <> 'MULTIPLE_CHOICE' OR l.user_answer ~ '^[1-4]$'
+            GROUP BY l.quiz_id
+            ON CONFLICT (quiz_id) DO NOTHING
+            """, nativeQuery = true)
+    int backfillFromQuizLog();
+}
@@ -0,0 +1,126 @@
+package com.finbattle.domain.quiz.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 퀴즈 통계 조회 캐시 (Redis hash)
+ * - quiz:stats:member:{memberId} : "{statKey}|{metric}" -> 값
+ * - quiz:stats:difficulty         : "{quizId}" -> 정답률
+ * - quiz:stats:member:version:{memberId} : 회원 통계 변경 버전 (무효화마다 1씩 증가)
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuizStatsRedisRepository {
+
+    private static final String DIFFICULTY_KEY = "quiz:stats:difficulty";
+    private static final long TTL_MINUTES = 10;
+    // 변경 버전은 캐시 값보다 오래 유지 (만료 후 0 으로 돌아가도 그 사이 채우기는 모두 끝난 뒤)
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    // 읽기 시작할 때의 버전이 그대로일 때만 hash 를 채움 (그 사이 통계가 바뀌었으면 이전 값을 쓰지 않음)
+    // ARGV: 버전, TTL(ms), field1, value1, field2, value2, ...
+    private static final RedisScript<Long> SAVE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+            + "redis.call('del', KEYS[1]) "
+            + "for i = 3, #ARGV, 2 do redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+            + "redis.call('pexpire', KEYS[1], ARGV[2]) "
+            + "return 1", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private String getMemberKey(Long memberId) {
+        return "quiz:stats:member:" + memberId;
+    }
+
+    public Map<String, Integer> findMemberStats(Long memberId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(getMemberKey(memberId));
+        Map<String, Integer> stats = new HashMap<>();
+        entries.forEach((field, value) -> {
+            if (value instanceof Number number) {
+                stats.put(field.toString(), number.intValue());
+            }
+        });
+        return stats;
+    }
+
+    private String getMemberVersionKey(Long memberId) {
+        return "quiz:stats:member:version:" + memberId;
+    }
+
+    public long findMemberVersion(Long memberId) {
+        Object value = redisTemplate.opsForValue().get(getMemberVersionKey(memberId));
+        return value instanceof Number version ? version.longValue() : 0L;
+    }
+
+    /**
+     * @return 버전이 그대로여서 저장했으면 true
+     */
+    public boolean saveMemberStatsIfVersion(Long memberId, long version,
+        Map<String, Integer> stats) {
+        if (stats.isEmpty()) {
+            return false;
+        }
+        // 필드는 hash key 와 같은 문자열, 값은 Jackson 이 숫자로 읽는 문자열 그대로 전달
+        List<String> args = new ArrayList<>(stats.size() * 2 + 2);
+        args.add(Long.toString(version));
+        args.add(Long.toString(TimeUnit.MINUTES.toMillis(TTL_MINUTES)));
+        stats.forEach((field, value) -> {
+            args.add(field);
+            args.add(value.toString());
+        });
+        Long saved = redisTemplate.execute(SAVE_IF_VERSION_SCRIPT, new StringRedisSerializer(),
+            new GenericToStringSerializer<>(Long.class),
+            List.of(getMemberKey(memberId), getMemberVersionKey(memberId)), args.toArray());
+        return saved != null && saved == 1L;
+    }
+
+    /**
+     * 버전을 올린 뒤 캐시를 삭제 (진행 중인 채우기가 이전 통계를 다시 저장하지 못하게 함)
+     */
+    public void invalidateMemberStats(Long memberId) {
+        redisTemplate.opsForValue().increment(getMemberVersionKey(memberId));
+        redisTemplate.expire(getMemberVersionKey(memberId), VERSION_TTL);
+        redisTemplate.delete(getMemberKey(memberId));
+    }
+
+    /**
+     * @return quizIds 와 같은 순서의 정답률 목록 (캐시에 없으면 null)
+     */
+    public List<Double> findCorrectRatios(Collection<Long> quizIds) {
+        List<Object> fields = new ArrayList<>();
+        quizIds.forEach(quizId -> fields.add(quizId.toString()));
+        List<Object> values = redisTemplate.opsForHash().multiGet(DIFFICULTY_KEY, fields);
+        List<Double> ratios = new ArrayList<>();
+        for (Object value : values) {
+            ratios.add(value instanceof Number number ? number.doubleValue() : null);
+        }
+        return ratios;
+    }
+
+    public void saveCorrectRatios(Map<Long, Double> ratios) {
+        if (ratios.isEmpty()) {
+            return;
+        }
+        Map<String, Double> fields = new HashMap<>();
+        ratios.forEach((quizId, ratio) -> fields.put(quizId.toString(), ratio));
+        redisTemplate.opsForHash().putAll(DIFFICULTY_KEY, fields);
+        redisTemplate.expire(DIFFICULTY_KEY, TTL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    public void deleteCorrectRatio(Long quizId) {
+        redisTemplate.opsForHash().delete(DIFFICULTY_KEY, quizId.toString());
+    }
+}
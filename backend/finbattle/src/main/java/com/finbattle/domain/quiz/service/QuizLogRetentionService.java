@@ -0,0 +1,75 @@
+package com.finbattle.domain.quiz.service;
+
+import com.finbattle.domain.quiz.repository.QuizLogMonthlyRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * quiz_log 보존 기간 관리
+ * <p>
+ * 하루 한 번 보존 기간(기본 12개월)이 지난 로그를 작은 묶음 단위로 quiz_log_monthly 에 요약하면서 삭제합니다.
+ * 요약과 삭제가 한 문장이라 여러 인스턴스가 동시에 실행해도 같은 로그가 두 번 집계되지 않습니다.
+ */
+@Slf4j
+@Service
+public class QuizLogRetentionService {
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private final QuizLogMonthlyRepository quizLogMonthlyRepository;
+    private final int retentionMonths;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    public QuizLogRetentionService(QuizLogMonthlyRepository quizLogMonthlyRepository,
+        @Value("${app.quiz-log.retention-months:12}") int retentionMonths) {
+        this.quizLogMonthlyRepository = quizLogMonthlyRepository;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void schedule() {
+        scheduler.scheduleWithFixedDelay(this::purgeSafely, 1, 24, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 보존 기간이 지난 로그를 월 단위 경계(해당 월 1일 0시)까지 정리
+     *
+     * @return 갱신된 월간 요약 행 수
+     */
+    public int purgeExpiredLogs() {
+        LocalDateTime cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths)
+            .atStartOfDay();
+        int total = 0;
+        int updated;
+        do {
+            updated = quizLogMonthlyRepository.rollupAndDeleteBefore(cutoff, CHUNK_SIZE);
+            total += updated;
+        } while (updated > 0 && !Thread.currentThread().isInterrupted());
+        return total;
+    }
+
+    private void purgeSafely() {
+        try {
+            int rolledUp = purgeExpiredLogs();
+            if (rolledUp > 0) {
+                log.info("🧹 quiz_log 보존 기간 정리 완료: 월간 요약 {}건 갱신", rolledUp);
+            }
+        } catch (Exception e) {
+            log.error("quiz_log 보존 기간 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.finbattle.domain.quiz.service;
+
+import com.finbattle.domain.quiz.model.QuizLog;
+import com.finbattle.domain.quiz.repository.QuizLogRepository;
+import com.finbattle.global.common.metrics.QuizLogSinkMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임 중 답안 로그(quiz_log) 쓰기 버퍼
+ * <p>
+ * 답안 처리 스레드는 큐에 넣기만 하고 바로 결과를 브로드캐스트합니다. 전용 스레드가 주기적으로(또는 배치 크기만큼
+ * 쌓이면 즉시) 큐를 비워 한 트랜잭션에서 JDBC 배치 insert 로 저장합니다.
+ * <p>
+ * 배치 저장에 실패하면 한 건씩 다시 저장해 문제가 되는 행만 골라냅니다. 데이터 자체가 잘못된 행(제약 조건 위반 등)은
+ * 바로 버리고, 그 밖의 실패는 해당 행을 큐에 되돌려 다음 주기에 다시 시도하되 {@value #MAX_ATTEMPTS}번 실패하면
+ * 버립니다. 버린 행과 큐 초과로 받지 못한 답안은 각각 유실 수로 기록합니다.
+ */
+@Slf4j
+@Component
+public class QuizLogSink {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final QuizLogRepository quizLogRepository;
+    private final QuizLogSinkMetrics quizLogSinkMetrics;
+    private final int batchSize;
+    private final BlockingQueue<PendingLog> buffer;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+
+    public QuizLogSink(QuizLogRepository quizLogRepository, QuizLogSinkMetrics quizLogSinkMetrics,
+        @Value("${app.quiz-log.batch-size:500}") int batchSize,
+        @Value("${app.quiz-log.capacity:50000}") int capacity,
+        @Value("${app.quiz-log.flush-interval-ms:500}") long flushIntervalMs) {
+        this.quizLogRepository = quizLogRepository;
+        this.quizLogSinkMetrics = quizLogSinkMetrics;
+        this.batchSize = batchSize;
+        this.buffer = new LinkedBlockingQueue<>(capacity);
+        quizLogSinkMetrics.registerPendingGauge(buffer::size);
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs,
+            TimeUnit.MILLISECONDS);
+    }
+
+    public void append(QuizLog quizLog) {
+        if (quizLog.getCreatedAt() == null) {
+            quizLog.setCreatedAt(LocalDateTime.now());
+        }
+        if (!buffer.offer(new PendingLog(quizLog, 0))) {
+            quizLogSinkMetrics.incrementDropped(1);
+            log.warn("quiz_log 버퍼 초과로 답안 로그 유실: memberId={}, quizId={}",
+                quizLog.getMemberId(), quizLog.getQuizId());
+            return;
+        }
+        // 배치 크기만큼 쌓이면 주기를 기다리지 않고 한 번 더 비움
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushSafely);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush(); // 종료 전에 남은 로그 저장
+    }
+
+    private void flushSafely() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("quiz_log 배치 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void flush() {
+        List<PendingLog> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            List<QuizLog> logs = batch.stream().map(PendingLog::quizLog).toList();
+            long start = System.nanoTime();
+            try {
+                quizLogRepository.saveAll(logs);
+                recordFlush(logs, start);
+            } catch (RuntimeException e) {
+                log.warn("quiz_log 배치 저장 실패, 한 건씩 재시도: {}", e.getMessage());
+                if (!saveEach(batch)) {
+                    return; // DB 장애로 보고 다음 주기에 다시 시도
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 배치를 한 건씩 저장해 실패한 행만 골라낸다.
+     *
+     * @return 남은 행을 계속 처리했으면 true, DB 장애로 보고 중단했으면 false
+     */
+    private boolean saveEach(List<PendingLog> batch) {
+        List<QuizLog> saved = new ArrayList<>(batch.size());
+        long start = System.nanoTime();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingLog pending = batch.get(i);
+            QuizLog quizLog = pending.quizLog();
+            quizLog.setQuizLogId(null); // 롤백된 insert 에서 할당된 ID 제거
+            try {
+                quizLogRepository.save(quizLog);
+                saved.add(quizLog);
+            } catch (DataIntegrityViolationException e) {
+                // 다시 시도해도 성공할 수 없는 행
+                discard(quizLog, e);
+            } catch (RuntimeException e) {
+                retryLater(pending, e);
+                requeue(batch.subList(i + 1, batch.size()));
+                recordFlush(saved, start);
+                return false;
+            }
+        }
+        recordFlush(saved, start);
+        return true;
+    }
+
+    private void retryLater(PendingLog pending, RuntimeException cause) {
+        int attempts = pending.attempts() + 1;
+        if (attempts >= MAX_ATTEMPTS) {
+            discard(pending.quizLog(), cause);
+            return;
+        }
+        if (!buffer.offer(new PendingLog(pending.quizLog(), attempts))) {
+            quizLogSinkMetrics.incrementDropped(1);
+        }
+    }
+
+    private void discard(QuizLog quizLog, RuntimeException cause) {
+        quizLogSinkMetrics.incrementFailed(1);
+        log.error("quiz_log 저장 실패로 답안 로그 유실: memberId={}, quizId={}, {}",
+            quizLog.getMemberId(), quizLog.getQuizId(), cause.getMessage());
+    }
+
+    private void recordFlush(List<QuizLog> logs, long start) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        LocalDateTime oldest = logs.stream()
+            .map(QuizLog::getCreatedAt)
+            .min(LocalDateTime::compareTo)
+            .orElseGet(LocalDateTime::now);
+        quizLogSinkMetrics.recordFlush(logs.size(), Duration.ofNanos(System.nanoTime() - start),
+            Duration.between(oldest, LocalDateTime.now()));
+    }
+
+    private void requeue(List<PendingLog> rest) {
+        int dropped = 0;
+        for (PendingLog pending : rest) {
+            pending.quizLog().setQuizLogId(null);
+            if (!buffer.offer(pending)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            quizLogSinkMetrics.incrementDropped(dropped);
+        }
+    }
+
+    // 저장 대기 중인 답안과 지금까지 개별 저장에 실패한 횟수
+    private record PendingLog(QuizLog quizLog, int attempts) {
+
+    }
+}
@@ -7,6 +7,7 @@ import com.finbattle.domain.quiz.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,55 +15,38 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class QuizService {
 
-    private final QuizLogRepository quizLogRepository;
-    private final QuizRepository quizRepository;
-    private final ShortAnswerQuizRepository shortAnswerQuizRepository;
-    private final EssayQuizRepository essayQuizRepository;
-    private final MultipleChoiceQuizRepository multipleChoiceQuizRepository;
-    private final QuizOptionRepository quizOptionRepository;
-
-    public List<WrongQuizLogDto> getWrongQuizLogsByMember(Long memberId) {
-        List<QuizLog> wrongLogs = quizLogRepository.findByMemberIdAndIsCorrectFalse(memberId);
-
-        return wrongLogs.stream().map(log -> {
-            Quiz quiz = quizRepository.findById(log.getQuizId())
-                    .orElseThrow(() -> new RuntimeException("Quiz not found with id: " + log.getQuizId()));
+    private static final int MAX_WRONG_PAGE_SIZE = 100;
 
-            String question = null;
-            String correctAnswer = null;
-            List<String> options = null;
-
-            switch (quiz.getQuizMode()) {
-                case SHORT_ANSWER -> {
-                    ShortAnswerQuiz sa = shortAnswerQuizRepository.findById(quiz.getQuizId())
-                            .orElseThrow(() -> new RuntimeException("ShortAnswerQuiz not found with id: " + quiz.getQuizId()));
-                    question = sa.getShortQuestion();
-                    correctAnswer = sa.getShortAnswer();
-                }
-                case ESSAY -> {
-                    EssayQuiz essay = essayQuizRepository.findById(quiz.getQuizId())
-                            .orElseThrow(() -> new RuntimeException("EssayQuiz not found with id: " + quiz.getQuizId()));
-                    question = essay.getEssayQuestion();
-                }
-                case MULTIPLE_CHOICE -> {
-                    MultipleChoiceQuiz mcq = multipleChoiceQuizRepository.findById(quiz.getQuizId())
-                            .orElseThrow(() -> new RuntimeException("MultipleChoiceQuiz not found with id: " + quiz.getQuizId()));
-                    question = mcq.getMultipleQuestion();
-                    List<QuizOption> quizOptions = quizOptionRepository.findByQuizId(quiz.getQuizId());
-                    correctAnswer = quizOptions.stream().filter(QuizOption::isCorrect).map(QuizOption::getOptionText).findFirst().orElse(null);
-                }
-            }
+    private final QuizLogRepository quizLogRepository;
 
-            return WrongQuizLogDto.builder()
-                    .quizId(quiz.getQuizId())
-                    .quizMode(quiz.getQuizMode())
-                    .quizSubject(quiz.getSubjectType())
-                    .question(question)
-                    .correctAnswer(correctAnswer)
-                    .userAnswer(log.getUserAnswer())
-                    .createdAt(log.getCreatedAt())
-                    .build();
-        }).collect(Collectors.toList());
+    /**
+     * 틀린 퀴즈 로그를 최신순으로 조회 (keyset 페이지네이션)
+     * 페이지 파라미터가 모두 없으면 전체, lastCreatedAt/lastLogId 가 없으면 첫 페이지, 있으면 해당 로그 이후 페이지를 반환
+     */
+    public List<WrongQuizLogDto> getWrongQuizLogsByMember(Long memberId, LocalDateTime lastCreatedAt,
+                                                          Long lastLogId, Integer size) {
+        Integer pageSize = size == null ? null : Math.min(Math.max(size, 1), MAX_WRONG_PAGE_SIZE);
+        return quizLogRepository.findWrongNotePage(memberId, lastCreatedAt, lastLogId, pageSize)
+                .stream()
+                .map(row -> {
+                    QuizMode quizMode = QuizMode.valueOf(row.getQuizMode());
+                    String correctAnswer = switch (quizMode) {
+                        case SHORT_ANSWER -> row.getShortAnswer();
+                        case MULTIPLE_CHOICE -> row.getCorrectOption();
+                        case ESSAY -> null;
+                    };
+                    return WrongQuizLogDto.builder()
+                            .quizLogId(row.getQuizLogId())
+                            .quizId(row.getQuizId())
+                            .quizMode(quizMode)
+                            .quizSubject(SubjectType.valueOf(row.getSubjectType()))
+                            .question(row.getQuestion())
+                            .correctAnswer(correctAnswer)
+                            .userAnswer(row.getUserAnswer())
+                            .createdAt(row.getCreatedAt())
+                            .build();
+                })
+                .collect(Collectors.toList());
     }
 
     public List<QuizLogDto> getQuizLogsByQuizId(Long quizId) {
@@ -0,0 +1,167 @@
+package com.finbattle.domain.quiz.service;
+
+import static com.finbattle.domain.quiz.dto.MemberQuizStatsDto.BEST_STREAK;
+import static com.finbattle.domain.quiz.dto.MemberQuizStatsDto.CORRECT_COUNT;
+import static com.finbattle.domain.quiz.dto.MemberQuizStatsDto.CURRENT_STREAK;
+import static com.finbattle.domain.quiz.dto.MemberQuizStatsDto.TOTAL_COUNT;
+import static com.finbattle.domain.quiz.dto.MemberQuizStatsDto.field;
+
+import com.finbattle.domain.quiz.dto.MemberQuizStatsDto;
+import com.finbattle.domain.quiz.event.QuizAnsweredEvent;
+import com.finbattle.domain.quiz.model.MemberQuizStat;
+import com.finbattle.domain.quiz.model.QuizStat;
+import com.finbattle.domain.quiz.repository.MemberQuizStatRepository;
+import com.finbattle.domain.quiz.repository.QuizStatRepository;
+import com.finbattle.domain.quiz.repository.QuizStatsRedisRepository;
+import com.finbattle.global.common.metrics.QuizStatsMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * quiz_log 를 다시 집계하지 않도록 답안마다 증분 갱신하는 퀴즈 통계
+ * <p>
+ * 게임 답안 처리 경로에서 발행된 {@link QuizAnsweredEvent}를 별도 스레드에서 member_quiz_stat / quiz_stat 에
+ * upsert 로 반영하고, 조회는 Redis hash 캐시를 거칩니다. (갱신 시 회원별 버전을 올리고 캐시 삭제, 캐시를 채울 때는
+ * DB 를 읽기 전의 버전이 그대로일 때만 저장)
+ * <p>
+ * 대기열은 {@value #QUEUE_CAPACITY}건으로 제한하며, 가득 차면 해당 답안은 통계에 반영하지 않고 유실 수를 기록합니다.
+ * 통계 테이블이 비어 있으면(최초 배포) 기동 시 기존 quiz_log 로 한 번 채웁니다. 보존 기간이 지나 quiz_log_monthly 로
+ * 옮겨진 로그는 과목/유형과 순서 정보가 없어 포함하지 않습니다.
+ */
+@Slf4j
+@Service
+public class QuizStatsService {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    private final MemberQuizStatRepository memberQuizStatRepository;
+    private final QuizStatRepository quizStatRepository;
+    private final QuizStatsRedisRepository quizStatsRedisRepository;
+    private final QuizStatsMetrics quizStatsMetrics;
+
+    // 단일 스레드: 같은 서버로 들어온 답안을 순서대로 반영해야 연속 정답이 맞게 계산됨
+    private final ThreadPoolExecutor statsExecutor = new ThreadPoolExecutor(1, 1, 0L,
+        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY));
+
+    public QuizStatsService(MemberQuizStatRepository memberQuizStatRepository,
+        QuizStatRepository quizStatRepository, QuizStatsRedisRepository quizStatsRedisRepository,
+        QuizStatsMetrics quizStatsMetrics) {
+        this.memberQuizStatRepository = memberQuizStatRepository;
+        this.quizStatRepository = quizStatRepository;
+        this.quizStatsRedisRepository = quizStatsRedisRepository;
+        this.quizStatsMetrics = quizStatsMetrics;
+        quizStatsMetrics.registerPendingGauge(() -> statsExecutor.getQueue().size());
+    }
+
+    @EventListener
+    public void onQuizAnswered(QuizAnsweredEvent event) {
+        try {
+            statsExecutor.execute(() -> apply(event));
+        } catch (RejectedExecutionException e) {
+            quizStatsMetrics.incrementRejected();
+            log.warn("퀴즈 통계 대기열 초과로 반영 누락: memberId={}, quizId={}", event.memberId(),
+                event.quizId());
+        }
+    }
+
+    // 여러 서버가 동시에 실행해도 이미 있는 행은 건너뛰므로 중복 집계되지 않음
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        statsExecutor.execute(() -> {
+            try {
+                if (memberQuizStatRepository.count() > 0 || quizStatRepository.count() > 0) {
+                    return;
+                }
+                int members = memberQuizStatRepository.backfillFromQuizLog();
+                int quizzes = quizStatRepository.backfillFromQuizLog();
+                log.info("📊 quiz_log 로 퀴즈 통계 생성: 회원 통계 {}건, 퀴즈 통계 {}건", members, quizzes);
+            } catch (Exception e) {
+                log.error("퀴즈 통계 초기 집계 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        statsExecutor.shutdown();
+        try {
+            statsExecutor.awaitTermination(5, TimeUnit.SECONDS); // 남은 답안 반영
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void apply(QuizAnsweredEvent event) {
+        try {
+            int correct = event.correct() ? 1 : 0;
+            memberQuizStatRepository.increment(event.memberId(), MemberQuizStat.TOTAL, correct);
+            if (event.subjectType() != null) {
+                memberQuizStatRepository.increment(event.memberId(),
+                    MemberQuizStat.SUBJECT_PREFIX + event.subjectType().name(), correct);
+            }
+            if (event.quizMode() != null) {
+                memberQuizStatRepository.increment(event.memberId(),
+                    MemberQuizStat.MODE_PREFIX + event.quizMode().name(), correct);
+            }
+            quizStatRepository.increment(event.quizId(), correct);
+
+            quizStatsRedisRepository.invalidateMemberStats(event.memberId());
+            quizStatsRedisRepository.deleteCorrectRatio(event.quizId());
+        } catch (Exception e) {
+            log.error("퀴즈 통계 반영 실패: memberId={}, quizId={}", event.memberId(), event.quizId(), e);
+        }
+    }
+
+    public MemberQuizStatsDto getMemberStats(Long memberId) {
+        Map<String, Integer> stats = quizStatsRedisRepository.findMemberStats(memberId);
+        if (stats.isEmpty()) {
+            // DB 를 읽기 전의 버전: 읽는 사이 통계가 갱신되면 버전이 올라 저장하지 않음
+            long version = quizStatsRedisRepository.findMemberVersion(memberId);
+            for (MemberQuizStat stat : memberQuizStatRepository.findByMemberId(memberId)) {
+                stats.put(field(stat.getStatKey(), TOTAL_COUNT), stat.getTotalCount());
+                stats.put(field(stat.getStatKey(), CORRECT_COUNT), stat.getCorrectCount());
+                stats.put(field(stat.getStatKey(), CURRENT_STREAK), stat.getCurrentStreak());
+                stats.put(field(stat.getStatKey(), BEST_STREAK), stat.getBestStreak());
+            }
+            quizStatsRedisRepository.saveMemberStatsIfVersion(memberId, version, stats);
+        }
+        return MemberQuizStatsDto.from(stats);
+    }
+
+    /**
+     * 퀴즈별 정답률 (난이도 지표). 풀이 기록이 없는 퀴즈는 결과에 포함되지 않습니다.
+     */
+    public Map<Long, Double> getCorrectRatios(List<Long> quizIds) {
+        Map<Long, Double> ratios = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        List<Double> cached = quizStatsRedisRepository.findCorrectRatios(quizIds);
+        for (int i = 0; i < quizIds.size(); i++) {
+            if (cached.get(i) != null) {
+                ratios.put(quizIds.get(i), cached.get(i));
+            } else {
+                missing.add(quizIds.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, Double> loaded = new HashMap<>();
+            for (QuizStat stat : quizStatRepository.findAllById(missing)) {
+                loaded.put(stat.getQuizId(), stat.getCorrectRatio());
+            }
+            quizStatsRedisRepository.saveCorrectRatios(loaded);
+            ratios.putAll(loaded);
+        }
+        return ratios;
+    }
+}
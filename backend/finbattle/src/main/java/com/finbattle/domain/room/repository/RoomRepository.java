@@ -6,6 +6,9 @@ import com.finbattle.domain.room.model.Room;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
 
@@ -14,4 +17,8 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
 
     Page<Room> findBySubjectTypeAndStatusOrderByUpdateAtDesc(SubjectType subjectType,
         RoomStatus status, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Room r SET r.status = :status WHERE r.roomId = :roomId")
+    int updateStatus(@Param("roomId") Long roomId, @Param("status") RoomStatus status);
 }
@@ -0,0 +1,43 @@
+package com.finbattle.global.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ai_spend_category.keyword 유니크 인덱스를 보장한다.
+ * 기존 DB 에는 같은 키워드가 여러 행 쌓여 있어 ddl-auto 가 제약을 추가하지 못하므로, 가장 먼저 저장된 행만 남기고
+ * 정리한 뒤 인덱스를 만든다. 두 문장 모두 반복 실행해도 결과가 같아 여러 인스턴스가 동시에 기동해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiCategoryKeywordInitializer implements ApplicationRunner {
+
+    private static final String DELETE_DUPLICATES_SQL = """
+        DELETE FROM ai_spend_category a
+        USING ai_spend_category b
+        WHERE a.keyword = b.keyword AND a.id > b.id
+        """;
+    private static final String CREATE_UNIQUE_INDEX_SQL = """
+        CREATE UNIQUE INDEX IF NOT EXISTS uk_ai_spend_category_keyword
+        ON ai_spend_category (keyword)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            int deleted = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+            jdbcTemplate.execute(CREATE_UNIQUE_INDEX_SQL);
+            log.info("🔑 ai_spend_category 키워드 유니크 인덱스 확인 완료 (중복 {}건 정리)", deleted);
+        } catch (DataAccessException e) {
+            log.warn("ai_spend_category 키워드 유니크 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+}
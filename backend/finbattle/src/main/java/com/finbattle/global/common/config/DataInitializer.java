@@ -3,6 +3,7 @@ package com.finbattle.global.common.config;
 import com.finbattle.domain.cat.entity.Cat;
 import com.finbattle.domain.cat.entity.CatGrade;
 import com.finbattle.domain.cat.repository.CatRepository;
+import com.finbattle.domain.cat.service.CatService;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -22,6 +23,7 @@ import org.springframework.stereotype.Component;
 public class DataInitializer implements ApplicationRunner {
 
     private final CatRepository catRepository;
+    private final CatService catService;
 
     private static final String CAT_ASSET_FILE = "cat_asset/cat_asset.txt";
 
@@ -60,6 +62,7 @@ public class DataInitializer implements ApplicationRunner {
             if (!newCats.isEmpty()) {
                 catRepository.saveAll(newCats); // 🚀 한 번의 쿼리로 저장
                 log.info("{}마리의 고양이가 추가되었습니다!", newCats.size());
+                catService.refreshGachaTable(); // 새 고양이를 뽑기 확률표에 반영
             } else {
                 log.info("새로운 고양이가 없습니다.");
             }
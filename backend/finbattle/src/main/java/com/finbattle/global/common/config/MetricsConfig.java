@@ -3,6 +3,10 @@ package com.finbattle.global.common.config;
 import com.finbattle.domain.token.repository.RefreshTokenRepository;
 import com.finbattle.global.common.metrics.ActiveUsersMetrics;
 import com.finbattle.global.common.metrics.CacheMetrics;
+import com.finbattle.global.common.metrics.LlmCacheMetrics;
+import com.finbattle.global.common.metrics.QuizLogSinkMetrics;
+import com.finbattle.global.common.metrics.QuizStatsMetrics;
+import com.finbattle.global.common.metrics.SpendClassificationMetrics;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -17,6 +21,26 @@ public class MetricsConfig {
         return new CacheMetrics(meterRegistry);
     }
 
+    @Bean
+    public LlmCacheMetrics llmCacheMetrics(MeterRegistry meterRegistry) {
+        return new LlmCacheMetrics(meterRegistry);
+    }
+
+    @Bean
+    public QuizLogSinkMetrics quizLogSinkMetrics(MeterRegistry meterRegistry) {
+        return new QuizLogSinkMetrics(meterRegistry);
+    }
+
+    @Bean
+    public QuizStatsMetrics quizStatsMetrics(MeterRegistry meterRegistry) {
+        return new QuizStatsMetrics(meterRegistry);
+    }
+
+    @Bean
+    public SpendClassificationMetrics spendClassificationMetrics(MeterRegistry meterRegistry) {
+        return new SpendClassificationMetrics(meterRegistry);
+    }
+
     @Bean
     public ActiveUsersMetrics activeUserGauge(MeterRegistry meterRegistry,
         RefreshTokenRepository refreshTokenRepository) {
@@ -5,17 +5,21 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.finbattle.domain.member.service.MyInfoCache;
 import com.finbattle.global.common.redis.RedisChatSubscriber;
 import com.finbattle.global.common.redis.RedisGameSubscriber;
+import com.finbattle.global.common.redis.RedisMemberInfoSubscriber;
 import com.finbattle.global.common.redis.RedisRoomSubscriber;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -50,12 +54,24 @@ public class RedisConfig {
         return template;
     }
 
+    // 직접 직렬화한 바이너리 값 전용 (거래 내역 캐시 등)
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory factory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(factory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
     @Bean
     public RedisMessageListenerContainer redisContainer(
         RedisConnectionFactory connectionFactory,
         RedisChatSubscriber chatSubscriber,
         RedisGameSubscriber gameSubscriber,
-        RedisRoomSubscriber roomSubscriber
+        RedisRoomSubscriber roomSubscriber,
+        RedisMemberInfoSubscriber memberInfoSubscriber
     ) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
@@ -63,6 +79,8 @@ public class RedisConfig {
         container.addMessageListener(chatSubscriber, new PatternTopic("chat:*"));
         container.addMessageListener(gameSubscriber, new PatternTopic("game:*"));
         container.addMessageListener(roomSubscriber, new PatternTopic("room:*"));
+        container.addMessageListener(memberInfoSubscriber,
+            new ChannelTopic(MyInfoCache.INVALIDATE_CHANNEL));
 
         return container;
     }
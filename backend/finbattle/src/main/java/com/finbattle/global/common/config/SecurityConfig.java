@@ -7,6 +7,7 @@ import com.finbattle.global.common.exception.exception.security.CustomAuthentica
 import com.finbattle.global.common.filter.JWTFilter;
 import com.finbattle.global.common.filter.LoggingFilter;
 import com.finbattle.global.common.model.enums.PublicEndpoint;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -52,6 +53,8 @@ public class SecurityConfig {
                 .successHandler(customSuccessHandler)
             )
             .authorizeHttpRequests((auth) -> auth
+                // SSE 응답은 인증을 통과한 요청의 비동기 디스패치이므로 재검사하지 않음
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(PublicEndpoint.getAll().toArray(new String[0])).permitAll()
                 .requestMatchers("/websocket-test.html").permitAll()
                 .anyRequest().authenticated()
@@ -0,0 +1,55 @@
+package com.finbattle.global.common.config;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * IDENTITY 에서 SEQUENCE(pooled) 로 ID 전략을 바꾼 테이블의 시퀀스를 기존 데이터의 최대 ID 뒤로 맞춘다.
+ * ddl-auto 로 새로 만들어진 시퀀스는 1부터 시작하므로, 맞추지 않으면 기존 행과 PK가 충돌한다.
+ * 시퀀스 값은 앞으로만 이동하므로 여러 인스턴스가 동시에 기동해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SequenceInitializer implements ApplicationRunner {
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 함
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<SequenceTarget> TARGETS = List.of(
+        new SequenceTarget("ai_quiz_seq", "ai_quiz", "ai_quiz_id"),
+        new SequenceTarget("ai_multiple_choice_quiz_seq", "ai_multiple_choice_quiz",
+            "multiple_choice_quiz_id"),
+        new SequenceTarget("ai_option_seq", "ai_option", "ai_option_id"),
+        new SequenceTarget("quiz_log_seq", "quiz_log", "quiz_log_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (SequenceTarget target : TARGETS) {
+            String sql = String.format(
+                "SELECT setval('%s', GREATEST((SELECT last_value FROM %s), "
+                    + "(SELECT COALESCE(MAX(%s), 0) FROM %s) + %d))",
+                target.sequence(), target.sequence(), target.idColumn(), target.table(),
+                ALLOCATION_SIZE);
+            try {
+                Long value = jdbcTemplate.queryForObject(sql, Long.class);
+                log.info("🔢 시퀀스 {} 정렬 완료: {}", target.sequence(), value);
+            } catch (DataAccessException e) {
+                log.warn("시퀀스 {} 정렬 실패: {}", target.sequence(), e.getMessage());
+            }
+        }
+    }
+
+    private record SequenceTarget(String sequence, String table, String idColumn) {
+
+    }
+}
@@ -0,0 +1,57 @@
+package com.finbattle.global.common.config;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 나중에 유니크 제약을 추가한 테이블에 유니크 인덱스를 보장한다.
+ * 기존 DB 에 중복 행이 있으면 ddl-auto 는 경고만 남기고 제약을 추가하지 않아, 해당 컬럼을 쓰는 ON CONFLICT 가 모두
+ * 실패한다. 가장 먼저 저장된 행(가장 작은 ID)만 남기고 정리한 뒤 인덱스를 만든다.
+ * 두 문장 모두 반복 실행해도 결과가 같아 여러 인스턴스가 동시에 기동해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UniqueIndexInitializer implements ApplicationRunner {
+
+    // 인덱스 이름은 엔티티의 @UniqueConstraint 이름과 같아야 함 (새 DB 에서는 제약이 먼저 만들어짐)
+    private static final List<UniqueIndexTarget> TARGETS = List.of(
+        new UniqueIndexTarget("uk_member_cat_member_cat", "member_cat", "member_cat_id",
+            List.of("member_id", "cat_id"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (UniqueIndexTarget target : TARGETS) {
+            String matching = target.columns().stream()
+                .map(column -> String.format("a.%s = b.%s", column, column))
+                .reduce((left, right) -> left + " AND " + right)
+                .orElseThrow();
+            String deleteDuplicates = String.format(
+                "DELETE FROM %s a USING %s b WHERE %s AND a.%s > b.%s",
+                target.table(), target.table(), matching, target.idColumn(), target.idColumn());
+            String createIndex = String.format("CREATE UNIQUE INDEX IF NOT EXISTS %s ON %s (%s)",
+                target.index(), target.table(), String.join(", ", target.columns()));
+            try {
+                int deleted = jdbcTemplate.update(deleteDuplicates);
+                jdbcTemplate.execute(createIndex);
+                log.info("🔑 유니크 인덱스 확인 완료: {} (중복 {}건 정리)", target.index(), deleted);
+            } catch (DataAccessException e) {
+                log.warn("유니크 인덱스 생성 실패: {} ({})", target.index(), e.getMessage());
+            }
+        }
+    }
+
+    private record UniqueIndexTarget(String index, String table, String idColumn,
+        List<String> columns) {
+
+    }
+}
@@ -1,38 +1,108 @@
 package com.finbattle.global.common.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
 
     private final String financeapiUrl;
     private final String fastapiUrl;
+    private final String openaiUrl;
+    private final String openaiApiKey;
 
     public WebClientConfig(@Value("${app.financeApi}") String financeapiUrl,
-        @Value("${app.fastapiUrl}") String fastapiUrl) {
+        @Value("${app.fastapiUrl}") String fastapiUrl,
+        @Value("${app.openai.baseUrl:https://api.openai.com}") String openaiUrl,
+        @Value("${spring.ai.openai.api-key}") String openaiApiKey) {
         this.financeapiUrl = financeapiUrl;
         this.fastapiUrl = fastapiUrl;
+        this.openaiUrl = openaiUrl;
+        this.openaiApiKey = openaiApiKey;
     }
 
+    // FastAPI 전용 커넥션 풀 (모델 추론이라 응답 대기를 길게)
     @Bean
     public WebClient fastApiWebClient() {
+        ConnectionProvider provider = ConnectionProvider.builder("fastapi")
+            .maxConnections(50)
+            .pendingAcquireTimeout(Duration.ofSeconds(5))
+            .maxIdleTime(Duration.ofSeconds(20))
+            .evictInBackground(Duration.ofSeconds(60))
+            .build();
         return WebClient.builder()
             .baseUrl(fastapiUrl) // FastAPI 주소
+            .clientConnector(new ReactorClientHttpConnector(
+                timeoutClient(provider, Duration.ofSeconds(30))))
             .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
             .build();
     }
 
 
+    // 금융망 API 전용 커넥션 풀
+    // 분석 시 계좌 수만큼 동시에 호출하므로 풀을 넉넉히 두고, 서버가 먼저 끊는 유휴 연결은 미리 정리
     @Bean
     public WebClient financeWebClient(WebClient.Builder builder) {
+        ConnectionProvider provider = ConnectionProvider.builder("finance")
+            .maxConnections(100)
+            .pendingAcquireMaxCount(500)
+            .pendingAcquireTimeout(Duration.ofSeconds(3))
+            .maxIdleTime(Duration.ofSeconds(20))
+            .evictInBackground(Duration.ofSeconds(30))
+            .build();
         return builder
             .baseUrl(financeapiUrl)
+            .clientConnector(new ReactorClientHttpConnector(
+                timeoutClient(provider, Duration.ofSeconds(10))))
             .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
             .build();
     }
+
+    // OpenAI 전용 커넥션 풀 (https면 HTTP/2 우선 협상)
+    @Bean
+    public WebClient openAiWebClient() {
+        ConnectionProvider provider = ConnectionProvider.builder("openai")
+            .maxConnections(50)
+            .pendingAcquireTimeout(Duration.ofSeconds(5))
+            .maxIdleTime(Duration.ofSeconds(30))
+            .evictInBackground(Duration.ofSeconds(60))
+            .build();
+        HttpClient httpClient = HttpClient.create(provider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 3_000)
+            .responseTimeout(Duration.ofSeconds(90));
+        if (openaiUrl.startsWith("https")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+        return WebClient.builder()
+            .baseUrl(openaiUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .defaultHeaders(headers -> headers.setBearerAuth(openaiApiKey))
+            .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
+            .build();
+    }
+
+    // 연결 2초, 소켓 읽기/쓰기 유휴 제한, 전체 응답 대기 제한
+    private HttpClient timeoutClient(ConnectionProvider provider, Duration responseTimeout) {
+        long ioTimeoutSeconds = responseTimeout.toSeconds();
+        return HttpClient.create(provider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 2_000)
+            .responseTimeout(responseTimeout)
+            .doOnConnected(conn -> conn
+                .addHandlerLast(new ReadTimeoutHandler(ioTimeoutSeconds, TimeUnit.SECONDS))
+                .addHandlerLast(new WriteTimeoutHandler(ioTimeoutSeconds, TimeUnit.SECONDS)));
+    }
 }
@@ -10,6 +10,11 @@ public class CacheMetrics {
 
     private final Counter cacheHitCounter;
     private final Counter cacheMissCounter;
+    private final Counter cacheStaleCounter;
+    private final Counter coalescedLocalCounter;
+    private final Counter coalescedRemoteCounter;
+    private final Counter fullSyncCounter;
+    private final Counter incrementalSyncCounter;
 
     public CacheMetrics(MeterRegistry meterRegistry) {
         // 캐시 히트 카운터
@@ -21,6 +26,31 @@ public class CacheMetrics {
         this.cacheMissCounter = Counter.builder("cache.transaction.miss")
             .description("Number of transaction cache misses")
             .register(meterRegistry);
+
+        // 갱신 시점이 지난 값을 돌려주고 백그라운드 갱신한 횟수
+        this.cacheStaleCounter = Counter.builder("cache.transaction.stale")
+            .description("Number of stale transaction cache hits revalidated in background")
+            .register(meterRegistry);
+
+        // 미스였지만 진행 중인 호출 결과를 함께 받아 API 호출을 생략한 횟수
+        this.coalescedLocalCounter = Counter.builder("cache.transaction.coalesced")
+            .description("Number of transaction cache misses served by an in-flight call")
+            .tag("scope", "local")
+            .register(meterRegistry);
+        this.coalescedRemoteCounter = Counter.builder("cache.transaction.coalesced")
+            .description("Number of transaction cache misses served by an in-flight call")
+            .tag("scope", "remote")
+            .register(meterRegistry);
+
+        // 금융망 API 에서 한 달 전체 / 마지막 거래 이후만 받아 동기화한 횟수
+        this.fullSyncCounter = Counter.builder("cache.transaction.sync")
+            .description("Number of transaction syncs from the finance API")
+            .tag("mode", "full")
+            .register(meterRegistry);
+        this.incrementalSyncCounter = Counter.builder("cache.transaction.sync")
+            .description("Number of transaction syncs from the finance API")
+            .tag("mode", "incremental")
+            .register(meterRegistry);
     }
 
     public void incrementHit() {
@@ -31,6 +61,26 @@ public class CacheMetrics {
         cacheMissCounter.increment();
     }
 
+    public void incrementStale() {
+        cacheStaleCounter.increment();
+    }
+
+    public void incrementCoalescedLocal() {
+        coalescedLocalCounter.increment();
+    }
+
+    public void incrementCoalescedRemote() {
+        coalescedRemoteCounter.increment();
+    }
+
+    public void incrementFullSync() {
+        fullSyncCounter.increment();
+    }
+
+    public void incrementIncrementalSync() {
+        incrementalSyncCounter.increment();
+    }
+
     /**
      * 현재까지의 적중률(히트율)을 계산
      */
@@ -0,0 +1,51 @@
+package com.finbattle.global.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * LLM 응답 캐시의 계층(l1/l2)별 적중률 측정
+ */
+public class LlmCacheMetrics {
+
+    private static final String HIT = "cache.llm.hit";
+    private static final String MISS = "cache.llm.miss";
+
+    private final MeterRegistry meterRegistry;
+
+    public LlmCacheMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void incrementHit(String useCase, String tier) {
+        Counter.builder(HIT)
+            .description("Number of LLM response cache hits")
+            .tag("useCase", useCase)
+            .tag("tier", tier)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void incrementMiss(String useCase) {
+        Counter.builder(MISS)
+            .description("Number of LLM response cache misses")
+            .tag("useCase", useCase)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * 현재까지의 전체 적중률(히트율)을 계산
+     */
+    public double getHitRatio() {
+        double hitCount = meterRegistry.find(HIT).counters().stream()
+            .mapToDouble(Counter::count).sum();
+        double missCount = meterRegistry.find(MISS).counters().stream()
+            .mapToDouble(Counter::count).sum();
+        double total = hitCount + missCount;
+        if (total == 0) {
+            return 0.0;
+        }
+        return hitCount / total;
+    }
+}
@@ -0,0 +1,62 @@
+package com.finbattle.global.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 퀴즈 답안 로그 버퍼(QuizLogSink)의 적재량, 반영 지연, 유실(버퍼 초과, 저장 실패) 측정
+ */
+public class QuizLogSinkMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer flushLagTimer;
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    public QuizLogSinkMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        // 답안 시각부터 DB 커밋까지 걸린 시간 (배치 내 가장 오래된 답안 기준)
+        this.flushLagTimer = Timer.builder("quiz_log.sink.flush.lag")
+            .description("Delay between answer time and quiz_log commit")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("quiz_log.sink.flush.duration")
+            .description("Time spent writing one quiz_log batch")
+            .register(meterRegistry);
+        this.flushedCounter = Counter.builder("quiz_log.sink.flushed")
+            .description("Number of quiz_log rows written by the sink")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("quiz_log.sink.dropped")
+            .description("Number of quiz_log rows dropped because the buffer was full")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("quiz_log.sink.failed")
+            .description("Number of quiz_log rows discarded after repeated write failures")
+            .register(meterRegistry);
+    }
+
+    public void registerPendingGauge(Supplier<Number> pending) {
+        Gauge.builder("quiz_log.sink.pending", pending)
+            .description("Number of quiz_log rows waiting to be flushed")
+            .register(meterRegistry);
+    }
+
+    public void recordFlush(int rows, Duration duration, Duration lag) {
+        flushedCounter.increment(rows);
+        flushTimer.record(duration);
+        flushLagTimer.record(lag);
+    }
+
+    public void incrementDropped(int rows) {
+        droppedCounter.increment(rows);
+    }
+
+    public void incrementFailed(int rows) {
+        failedCounter.increment(rows);
+    }
+}
@@ -0,0 +1,32 @@
+package com.finbattle.global.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Supplier;
+
+/**
+ * 퀴즈 통계 증분 갱신(QuizStatsService)의 대기량과 유실 측정
+ */
+public class QuizStatsMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    public QuizStatsMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder("quiz.stats.rejected")
+            .description("Number of answer events not applied to quiz stats because the queue was full")
+            .register(meterRegistry);
+    }
+
+    public void registerPendingGauge(Supplier<Number> pending) {
+        Gauge.builder("quiz.stats.pending", pending)
+            .description("Number of answer events waiting to be applied to quiz stats")
+            .register(meterRegistry);
+    }
+
+    public void incrementRejected() {
+        rejectedCounter.increment();
+    }
+}
@@ -0,0 +1,32 @@
+package com.finbattle.global.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 소비 요약어 분류가 어느 단계에서 결정되었는지 측정
+ * <p>
+ * tier: exact(메모리 완전 일치), substring(메모리 키워드 포함), db(DB 조회), fastapi(모델 분류),
+ * negative(호출 실패·라벨 없음·부정 캐시로 기타 처리), unresolved(시간 초과로 기타 처리)
+ */
+public class SpendClassificationMetrics {
+
+    private static final String RESOLVED = "spend.classification.resolved";
+
+    private final MeterRegistry meterRegistry;
+
+    public SpendClassificationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void increment(String tier, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder(RESOLVED)
+            .description("Number of transaction summaries classified per tier")
+            .tag("tier", tier)
+            .register(meterRegistry)
+            .increment(count);
+    }
+}
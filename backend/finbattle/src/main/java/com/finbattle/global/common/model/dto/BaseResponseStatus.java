@@ -45,6 +45,8 @@ public enum BaseResponseStatus {
     USER_KEY_INVALID(false, HttpStatus.BAD_REQUEST, 3009, "USER_KEY가 유효하지 않습니다."),
     ACCOUNT_NOT_FOUND(false, HttpStatus.BAD_REQUEST, 3010, "일치하는 계좌번호가 없습니다."),
     ACCOUNT_NOT_VALID(false, HttpStatus.BAD_REQUEST, 3011, "본인 계좌 번호가 아닙니다."),
+    TRANSACTION_LOAD_FAILED(false, HttpStatus.BAD_GATEWAY, 3012, "거래 내역을 불러오지 못했습니다."),
+    ANALYSIS_PERIOD_INVALID(false, HttpStatus.BAD_REQUEST, 3013, "분석 기간이 유효하지 않습니다. (최대 12개월)"),
 
     // Quiz (4000 ~ 4099)
     QUIZ_NOT_FOUND(false, HttpStatus.NOT_FOUND, 4000, "해당 퀴즈를 찾을 수 없습니다."),
@@ -57,7 +59,9 @@ public enum BaseResponseStatus {
     AI_ANALYSIS_FAILED(false, HttpStatus.INTERNAL_SERVER_ERROR, 4100, "AI 분석에 실패하였습니다."),
     OPENAI_API_ERROR(false, HttpStatus.INTERNAL_SERVER_ERROR, 4101, "OpenAI API 호출 중 오류가 발생했습니다."),
     AI_RESPONSE_INVALID(false, HttpStatus.BAD_REQUEST, 4102, "AI 응답이 유효하지 않습니다."),
-    AI_QUIZ_CREATION_FAILED(false, HttpStatus.INTERNAL_SERVER_ERROR, 4103, "AI 퀴즈 생성에 실패하였습니다.");
+    AI_QUIZ_CREATION_FAILED(false, HttpStatus.INTERNAL_SERVER_ERROR, 4103, "AI 퀴즈 생성에 실패하였습니다."),
+    AI_SERVER_BUSY(false, HttpStatus.SERVICE_UNAVAILABLE, 4104, "AI 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    AI_QUIZ_JOB_NOT_FOUND(false, HttpStatus.NOT_FOUND, 4105, "AI 퀴즈 생성 작업을 찾을 수 없습니다.");
 
 
     private final boolean isSuccess;
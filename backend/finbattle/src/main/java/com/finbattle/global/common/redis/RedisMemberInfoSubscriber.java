@@ -0,0 +1,29 @@
+package com.finbattle.global.common.redis;
+
+import com.finbattle.domain.member.service.MyInfoCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 다른 인스턴스에서 발생한 내 정보 변경을 받아 로컬(L1) 캐시에서 제거
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisMemberInfoSubscriber implements MessageListener {
+
+    private final MyInfoCache myInfoCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long memberId = Long.parseLong(new String(message.getBody()).replace("\"", "").trim());
+            myInfoCache.evictLocal(memberId);
+        } catch (NumberFormatException e) {
+            log.warn("내 정보 캐시 무효화 메시지 형식 오류: {}", message);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.finbattle.domain.ai.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.finbattle.domain.ai.dto.AiConsumptionQuizDto;
+import com.finbattle.domain.ai.dto.AiQuizWrongNoteDto;
+import com.finbattle.domain.ai.model.AiMultipleChoiceQuiz;
+import com.finbattle.domain.ai.model.AiOption;
+import com.finbattle.domain.ai.model.AiQuiz;
+import com.finbattle.domain.ai.model.AiQuizLog;
+import com.finbattle.domain.ai.service.AiConsumptionQuizService;
+import com.finbattle.domain.ai.service.AiQuizLogService;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * AI퀴즈 조회가 퀴즈 개수와 무관하게 고정된 쿼리 수로 끝나는지 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AiQuizReadQueryCountTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final int QUIZ_COUNT = 10;
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private AiQuizRepository aiQuizRepository;
+    @Autowired
+    private AiMultipleChoiceQuizRepository multipleChoiceQuizRepository;
+    @Autowired
+    private AiOptionRepository aiOptionRepository;
+    @Autowired
+    private AiQuizLogRepository aiQuizLogRepository;
+
+    private AiConsumptionQuizService aiConsumptionQuizService;
+    private AiQuizLogService aiQuizLogService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        aiConsumptionQuizService = new AiConsumptionQuizService(aiQuizRepository,
+            multipleChoiceQuizRepository, aiOptionRepository, null);
+        aiQuizLogService = new AiQuizLogService(aiQuizRepository, multipleChoiceQuizRepository,
+            aiOptionRepository, aiQuizLogRepository);
+
+        for (int i = 0; i < QUIZ_COUNT; i++) {
+            AiQuiz quiz = em.persist(AiQuiz.builder()
+                .memberId(MEMBER_ID)
+                .createdAt(LocalDateTime.now())
+                .isDeleted(false)
+                .build());
+            AiMultipleChoiceQuiz multiple = em.persist(AiMultipleChoiceQuiz.builder()
+                .aiQuiz(quiz)
+                .question("문제 " + i)
+                .build());
+            for (int j = 0; j < 4; j++) {
+                em.persist(AiOption.builder()
+                    .multipleChoiceQuiz(multiple)
+                    .optionText("보기 " + j)
+                    .isCorrect(j == 0)
+                    .build());
+            }
+            em.persist(AiQuizLog.builder()
+                .aiQuizId(quiz.getAiQuizId())
+                .memberId(MEMBER_ID)
+                .userAnswer("보기 1")
+                .isCorrect(false)
+                .build());
+        }
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 최신_퀴즈_조회는_쿼리_2번() {
+        List<AiConsumptionQuizDto> quizzes = aiConsumptionQuizService.getLatestConsumptionQuizzes(MEMBER_ID);
+
+        assertThat(quizzes).hasSize(QUIZ_COUNT);
+        assertThat(quizzes).allSatisfy(quiz -> assertThat(quiz.getOptions()).hasSize(4));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 월간_퀴즈_조회는_쿼리_1번() {
+        List<AiConsumptionQuizDto> quizzes = aiConsumptionQuizService.getMonthlyConsumptionQuizzes(MEMBER_ID);
+
+        assertThat(quizzes).hasSize(QUIZ_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 오답_노트_조회는_쿼리_1번() {
+        List<AiQuizWrongNoteDto> wrongNotes = aiQuizLogService.getWrongQuizLogsByMember(MEMBER_ID);
+
+        assertThat(wrongNotes).hasSize(QUIZ_COUNT);
+        assertThat(wrongNotes).allSatisfy(note -> assertThat(note.getCorrectAnswer()).isEqualTo("보기 0"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
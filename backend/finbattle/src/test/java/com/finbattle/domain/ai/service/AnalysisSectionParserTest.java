@@ -0,0 +1,48 @@
+package com.finbattle.domain.ai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.finbattle.domain.ai.dto.AnalysisStreamEventDto;
+import com.finbattle.domain.ai.dto.QuizAiResponseDto;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+class AnalysisSectionParserTest {
+
+    @Test
+    void 토큰_경계에서_잘린_구간_표시도_구간별로_나눈다() {
+        Flux<String> tokens = Flux.just("[분석", " 내용]\n개념 ", "정리\n\n[취", "약점]\n[1] 오답", "\n\n[추천 학습]\n복습");
+
+        List<AnalysisStreamEventDto> events = AnalysisSectionParser
+            .toEvents(tokens, content -> new QuizAiResponseDto(content, "", ""))
+            .collectList()
+            .block();
+
+        assertThat(joined(events, "analysis")).isEqualTo("\n개념 정리\n\n");
+        assertThat(joined(events, "weakness")).isEqualTo("\n[1] 오답\n\n");
+        assertThat(joined(events, "recommendation")).isEqualTo("\n복습");
+        AnalysisStreamEventDto done = events.get(events.size() - 1);
+        assertThat(done.getEvent()).isEqualTo("done");
+        assertThat(((QuizAiResponseDto) done.getData()).getAnalysis())
+            .isEqualTo("[분석 내용]\n개념 정리\n\n[취약점]\n[1] 오답\n\n[추천 학습]\n복습");
+    }
+
+    @Test
+    void 실패하면_error_이벤트로_끝난다() {
+        List<AnalysisStreamEventDto> events = AnalysisSectionParser
+            .toEvents(Flux.error(new IllegalStateException()), content -> content)
+            .collectList()
+            .block();
+
+        assertThat(events).extracting(AnalysisStreamEventDto::getEvent).containsExactly("error");
+    }
+
+    private String joined(List<AnalysisStreamEventDto> events, String section) {
+        return events.stream()
+            .filter(e -> e.getEvent().equals(section))
+            .map(e -> (String) e.getData())
+            .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,95 @@
+package com.finbattle.domain.ai.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.finbattle.domain.ai.model.LlmUseCase;
+import com.finbattle.global.common.exception.exception.BusinessException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * 로컬 스텁 서버(JDK HttpServer)로 OpenAI chat-completions 응답을 흉내 내어 검증합니다.
+ */
+class OpenAiClientTest {
+
+    private static final String OK_BODY =
+        "{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\"안녕하세요\"}}]}";
+
+    private HttpServer server;
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private OpenAiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            calls.incrementAndGet();
+            Integer status = statuses.poll();
+            int code = status == null ? 200 : status;
+            byte[] body = (code == 200 ? OK_BODY : "{\"error\":\"stub\"}")
+                .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(code, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        WebClient webClient = WebClient.builder()
+            .baseUrl("http://localhost:" + server.getAddress().getPort())
+            .build();
+        meterRegistry = new SimpleMeterRegistry();
+        client = new OpenAiClient(webClient, meterRegistry, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 응답에서_메시지_본문을_추출한다() {
+        String content = client.call(LlmUseCase.QUIZ_ANALYSIS, "gpt-test", "질문");
+
+        assertThat(content).isEqualTo("안녕하세요");
+        assertThat(meterRegistry.get("llm.request")
+            .tag("useCase", "QUIZ_ANALYSIS")
+            .tag("model", "gpt-test")
+            .tag("outcome", "success")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 서버_오류는_재시도한다() {
+        statuses.add(503);
+
+        String content = client.call(LlmUseCase.ESSAY_SCORING, "gpt-test", "질문");
+
+        assertThat(content).isEqualTo("안녕하세요");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 클라이언트_오류는_재시도하지_않고_BusinessException으로_변환한다() {
+        statuses.add(400);
+
+        assertThatThrownBy(() -> client.call(LlmUseCase.ESSAY_SCORING, "gpt-test", "질문"))
+            .isInstanceOf(BusinessException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+}
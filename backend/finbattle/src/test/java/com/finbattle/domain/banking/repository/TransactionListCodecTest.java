@@ -0,0 +1,96 @@
+package com.finbattle.domain.banking.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.finbattle.domain.banking.model.CachedTransactionList;
+import com.finbattle.domain.banking.model.TransactionList;
+import com.finbattle.domain.banking.model.TransactionRecord;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TransactionListCodecTest {
+
+    private static final String[] SUMMARIES = {"스타벅스", "GS25", "배달의민족", "급여", "월세", "교통"};
+
+    @Test
+    void 인코딩한_거래_내역을_그대로_복원한다() {
+        CachedTransactionList original = new CachedTransactionList(
+            sample(300, new Random(7L)), 1_745_000_000_000L, 1_744_999_000_000L);
+
+        CachedTransactionList decoded = TransactionListCodec.decode(
+            TransactionListCodec.encode(original));
+
+        assertThat(decoded.getFetchedAt()).isEqualTo(original.getFetchedAt());
+        assertThat(decoded.getReconciledAt()).isEqualTo(original.getReconciledAt());
+        assertThat(decoded.getTransactions().getTotalCount()).isEqualTo(300);
+        assertThat(decoded.getTransactions().getList())
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyElementsOf(original.getTransactions().getList());
+    }
+
+    @Test
+    void null_필드와_빈_목록도_복원한다() {
+        List<TransactionRecord> records = new ArrayList<>();
+        records.add(new TransactionRecord(null, null, null, null, null, null));
+        records.add(new TransactionRecord(-5L, "20250401", "000000", "입금", -1L, ""));
+        CachedTransactionList withNulls = new CachedTransactionList(
+            new TransactionList(null, records), 0L, 0L);
+        CachedTransactionList empty = new CachedTransactionList(
+            new TransactionList(0, new ArrayList<>()), 1L, 1L);
+        CachedTransactionList nullList = new CachedTransactionList(
+            new TransactionList(0, null), 2L, 1L);
+
+        assertThat(TransactionListCodec.decode(TransactionListCodec.encode(withNulls)))
+            .usingRecursiveComparison().isEqualTo(withNulls);
+        assertThat(TransactionListCodec.decode(TransactionListCodec.encode(empty)))
+            .usingRecursiveComparison().isEqualTo(empty);
+        assertThat(TransactionListCodec.decode(TransactionListCodec.encode(nullList)))
+            .usingRecursiveComparison().isEqualTo(nullList);
+    }
+
+    @Test
+    void 기존_JSON_직렬화보다_작다() throws Exception {
+        CachedTransactionList cached = CachedTransactionList.now(sample(500, new Random(11L)));
+
+        byte[] json = redisObjectMapper().writeValueAsBytes(cached);
+        byte[] binary = TransactionListCodec.encode(cached);
+
+        assertThat(binary.length).isLessThan(json.length / 5);
+    }
+
+    // RedisConfig 의 값 직렬화 설정과 동일
+    private ObjectMapper redisObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+            ObjectMapper.DefaultTyping.NON_FINAL);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.ALWAYS);
+        return objectMapper;
+    }
+
+    private TransactionList sample(int size, Random random) {
+        List<TransactionRecord> records = new ArrayList<>(size);
+        long uniqueNo = 90_000L;
+        long balance = 1_000_000L;
+        for (int i = 0; i < size; i++) {
+            boolean withdrawal = random.nextInt(4) != 0;
+            long amount = 1_000L + random.nextInt(50_000);
+            balance += withdrawal ? -amount : amount;
+            records.add(new TransactionRecord(uniqueNo--,
+                String.format("202504%02d", 30 - i * 29 / size),
+                String.format("%02d%02d%02d", random.nextInt(24), random.nextInt(60),
+                    random.nextInt(60)),
+                withdrawal ? "출금" : "입금",
+                balance,
+                SUMMARIES[random.nextInt(SUMMARIES.length)]));
+        }
+        return new TransactionList(size, records);
+    }
+}
@@ -0,0 +1,48 @@
+package com.finbattle.domain.banking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.finbattle.domain.banking.model.SpendCategory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class KeywordMatcherTest {
+
+    private final KeywordMatcher matcher = KeywordMatcher.of(keywords());
+
+    @Test
+    void 요약어에_포함된_키워드로_분류한다() {
+        assertThat(matcher.match("스타벅스 강남역점")).contains(SpendCategory.FOOD);
+        assertThat(matcher.match("(주)카카오T 택시")).contains(SpendCategory.TRANSPORT);
+        assertThat(matcher.match("CGV용산아이파크몰")).contains(SpendCategory.CULTURE);
+    }
+
+    @Test
+    void 여러_키워드가_겹치면_가장_긴_키워드를_사용한다() {
+        // "gs25" 와 "gs칼텍스" 는 접두사 "gs" 를 공유
+        assertThat(matcher.match("GS칼텍스 주유소")).contains(SpendCategory.TRANSPORT);
+        assertThat(matcher.match("GS25 역삼점")).contains(SpendCategory.FOOD);
+        assertThat(matcher.match("올리브영 명동")).contains(SpendCategory.SHOPPING);
+    }
+
+    @Test
+    void 포함된_키워드가_없으면_분류하지_않는다() {
+        assertThat(matcher.match("알 수 없는 가맹점")).isEmpty();
+        assertThat(matcher.match(null)).isEmpty();
+        assertThat(KeywordMatcher.of(Map.of()).match("스타벅스")).isEmpty();
+    }
+
+    private Map<String, SpendCategory> keywords() {
+        Map<String, SpendCategory> keywords = new LinkedHashMap<>();
+        keywords.put("스타벅스", SpendCategory.FOOD);
+        keywords.put("카카오T", SpendCategory.TRANSPORT);
+        keywords.put("cgv", SpendCategory.CULTURE);
+        keywords.put("GS25", SpendCategory.FOOD);
+        keywords.put("GS칼텍스", SpendCategory.TRANSPORT);
+        keywords.put("올리브영", SpendCategory.SHOPPING);
+        keywords.put("올리", SpendCategory.ETC);
+        keywords.put("약", SpendCategory.MEDICAL); // 한 글자 키워드는 무시
+        return keywords;
+    }
+}
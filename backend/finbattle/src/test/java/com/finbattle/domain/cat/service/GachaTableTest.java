@@ -0,0 +1,75 @@
+package com.finbattle.domain.cat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.finbattle.domain.cat.entity.Cat;
+import com.finbattle.domain.cat.entity.CatGrade;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class GachaTableTest {
+
+    private static final int DRAWS = 200_000;
+    // 자유도 6 (7마리 - 1), 유의수준 0.001 의 카이제곱 임계값
+    private static final double CHI_SQUARE_CRITICAL = 22.458;
+
+    private final Cat tiger = new Cat("tiger", CatGrade.LEGENDARY);
+    private final Cat batman = new Cat("batman", CatGrade.EPIC);
+    private final Cat demonic = new Cat("demonic", CatGrade.EPIC);
+    private final Cat classic = new Cat("classic", CatGrade.DEFAULT);
+    private final List<Cat> commons = List.of(
+        new Cat("cheese", CatGrade.COMMON),
+        new Cat("black", CatGrade.COMMON),
+        new Cat("white", CatGrade.COMMON),
+        new Cat("gray", CatGrade.COMMON));
+
+    @Test
+    void 뽑기_분포가_등급별_확률과_일치한다() {
+        GachaTable table = GachaTable.of(allCats());
+        Map<Cat, Double> expected = new HashMap<>();
+        expected.put(tiger, 0.01);
+        expected.put(batman, 0.05);
+        expected.put(demonic, 0.05);
+        commons.forEach(cat -> expected.put(cat, 0.89 / commons.size()));
+
+        Map<Cat, Integer> observed = new HashMap<>();
+        Random random = new Random(20250401L);
+        for (int i = 0; i < DRAWS; i++) {
+            observed.merge(table.draw(random), 1, Integer::sum);
+        }
+
+        double chiSquare = 0.0;
+        for (Map.Entry<Cat, Double> entry : expected.entrySet()) {
+            double expectedCount = entry.getValue() * DRAWS;
+            double diff = observed.getOrDefault(entry.getKey(), 0) - expectedCount;
+            chiSquare += diff * diff / expectedCount;
+        }
+        assertThat(observed).doesNotContainKey(classic);
+        assertThat(chiSquare).isLessThan(CHI_SQUARE_CRITICAL);
+    }
+
+    @Test
+    void 기본_고양이만_있으면_빈_확률표() {
+        assertThat(GachaTable.of(List.of(classic)).isEmpty()).isTrue();
+    }
+
+    @Test
+    void 요청한_횟수만큼_뽑는다() {
+        GachaTable table = GachaTable.of(allCats());
+        Random random = new Random(7L);
+
+        assertThat(table.draw(random, 1)).hasSize(1);
+        assertThat(table.draw(random, 10)).hasSize(10);
+        assertThat(table.draw(random, 100)).hasSize(100);
+    }
+
+    private List<Cat> allCats() {
+        List<Cat> cats = new ArrayList<>(List.of(tiger, batman, demonic, classic));
+        cats.addAll(commons);
+        return cats;
+    }
+}
@@ -0,0 +1,104 @@
+package com.finbattle.domain.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.finbattle.domain.member.dto.MemberBalance;
+import com.finbattle.domain.member.model.Member;
+import com.finbattle.domain.member.repository.MemberRepository;
+import com.finbattle.global.common.config.JpaConfig;
+import com.finbattle.global.common.exception.exception.BusinessException;
+import com.finbattle.global.common.model.dto.BaseResponseStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 같은 회원에 대한 동시 포인트 증감이 유실 없이 반영되는지 검증합니다.
+ * 각 호출이 자체 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@Import({JpaConfig.class, MemberWalletService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberWalletConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberWalletService memberWalletService;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(Member.of("provider", "tester", "tester@finbattle.com"))
+            .getMemberId(); // point 10000, exp 0
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void 동시_적립은_모두_반영된다() throws Exception {
+        runConcurrently(50, () -> memberWalletService.addExpAndPoint(memberId, 10L, 5L));
+
+        MemberBalance balance = memberWalletService.getBalance(memberId);
+        assertThat(balance.getExp()).isEqualTo(500L);
+        assertThat(balance.getPoint()).isEqualTo(10_250L);
+    }
+
+    @Test
+    void 동시_차감은_잔액을_넘지_않는다() throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(40, () -> {
+            try {
+                memberWalletService.spendPoint(memberId, 500L);
+                succeeded.incrementAndGet();
+            } catch (BusinessException e) {
+                assertThat(e.getBaseResponseStatus()).isEqualTo(BaseResponseStatus.POINT_NOT_ENOUGH);
+                rejected.incrementAndGet();
+            }
+            return null;
+        });
+
+        assertThat(succeeded.get()).isEqualTo(20);
+        assertThat(rejected.get()).isEqualTo(20);
+        assertThat(memberWalletService.getBalance(memberId).getPoint()).isZero();
+    }
+
+    private void runConcurrently(int tasks, Callable<?> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
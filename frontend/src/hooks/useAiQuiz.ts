@@ -33,6 +33,16 @@ interface SubmitAnswerResponse {
   result: boolean; // 명확하게 boolean 타입으로 정의
 }
 
+interface QuizJob {
+  jobId: string;
+  status: "PENDING" | "RUNNING" | "COMPLETED" | "FAILED";
+  quizIds: number[] | null;
+  errorMessage: string | null;
+}
+
+const JOB_POLL_INTERVAL_MS = 1500;
+const JOB_POLL_MAX_ATTEMPTS = 80; // 최대 약 2분
+
 export const useAiQuiz = () => { 
   // 최신 소비내역 기반 AI퀴즈 조회
   const { loading, error, execute: fetchLatestQuizzes } = useApi<QuizResponse>("/api/ai/consumption/latest", "GET");
@@ -41,14 +51,43 @@ export const useAiQuiz = () => {
   const { loading: submitLoading, error: submitError, execute: submitAnswer } = useApi<SubmitAnswerResponse, SubmitAnswerPayload>("/api/ai/consumption/submit", "POST");
   
   // 새로운 AI 퀴즈 생성 API 추가 - 수정: void 대신 any 타입 사용
-  const { loading: createLoading, error: createError, execute: createNewQuizzes } = useApi<any, any>("/api/ai/consumption/create", "POST");
+  const { loading: createLoading, error: createError, execute: createNewQuizzes } = useApi<QuizJob, any>("/api/ai/consumption/create", "POST");
+
+  // 퀴즈 생성 작업 상태 조회 API
+  const { execute: fetchQuizJob } = useApi<QuizJob>("/api/ai/consumption/jobs", "GET");
   
   // 퀴즈 생성 함수
   const createQuizzes = useCallback(async () => {
     try {
       // 빈 객체 대신 undefined 전달 또는 파라미터 제거
       const response = await createNewQuizzes({});
-      return response;
+      if (!response.isSuccess || !response.result) {
+        return response;
+      }
+
+      // 생성은 백그라운드 작업으로 처리되므로 완료될 때까지 상태를 조회
+      const { jobId } = response.result;
+      for (let attempt = 0; attempt < JOB_POLL_MAX_ATTEMPTS; attempt++) {
+        await new Promise((resolve) => setTimeout(resolve, JOB_POLL_INTERVAL_MS));
+        const jobResponse = await fetchQuizJob(undefined, { url: `/api/ai/consumption/jobs/${jobId}` });
+        const status = jobResponse.result?.status;
+        if (status === "COMPLETED") {
+          return jobResponse;
+        }
+        if (status === "FAILED" || !jobResponse.isSuccess) {
+          return {
+            ...jobResponse,
+            isSuccess: false,
+            message: jobResponse.result?.errorMessage || jobResponse.message || "퀴즈 생성에 실패했습니다."
+          };
+        }
+      }
+      return {
+        isSuccess: false,
+        code: 504,
+        message: "퀴즈 생성이 지연되고 있습니다. 잠시 후 다시 시도해주세요.",
+        result: null
+      };
     } catch (error) {
       console.error("퀴즈 생성 중 오류:", error);
       return {
@@ -58,7 +97,7 @@ export const useAiQuiz = () => {
         result: null
       };
     }
-  }, [createNewQuizzes]);
+  }, [createNewQuizzes, fetchQuizJob]);
   
   // 최신 퀴즈 목록 조회 함수
   const getLatestQuizContent = useCallback(async () => {